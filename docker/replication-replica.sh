@@ -0,0 +1,21 @@
+#!/bin/bash
+#
+# File: replication-replica.sh
+# Description: Starts replicating from the primary. Runs once, when the replica's data directory is initialised.
+#
+
+set -e
+
+# With GTID auto-positioning the replica copies the whole history of the primary: the database,
+# the application user, V1__init.sql and every Flyway migration applied to the primary.
+mysql --protocol=socket -uroot -p"${MYSQL_ROOT_PASSWORD}" <<-EOSQL
+    CHANGE REPLICATION SOURCE TO
+        SOURCE_HOST = 'db',
+        SOURCE_PORT = 3306,
+        SOURCE_USER = '${DB_REPLICATION_USER}',
+        SOURCE_PASSWORD = '${DB_REPLICATION_PASSWORD}',
+        SOURCE_AUTO_POSITION = 1,
+        SOURCE_CONNECT_RETRY = 5,
+        GET_SOURCE_PUBLIC_KEY = 1;
+    START REPLICA;
+EOSQL
@@ -0,0 +1,17 @@
+#!/bin/bash
+#
+# File: replication-source.sh
+# Description: Prepares the primary for replication. Runs once, when its data directory is initialised.
+#
+
+set -e
+
+mysql --protocol=socket -uroot -p"${MYSQL_ROOT_PASSWORD}" <<-EOSQL
+    -- Account used by the replica to read the binary log.
+    CREATE USER IF NOT EXISTS '${DB_REPLICATION_USER}'@'%' IDENTIFIED BY '${DB_REPLICATION_PASSWORD}';
+    GRANT REPLICATION SLAVE ON *.* TO '${DB_REPLICATION_USER}'@'%';
+
+    -- The application runs SHOW REPLICA STATUS with its own user to measure the lag.
+    -- Replicated, so the grant also exists on the replica.
+    GRANT REPLICATION CLIENT ON *.* TO '${MYSQL_USER}'@'%';
+EOSQL
@@ -0,0 +1,21 @@
+package co.edu.JdA.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) that carries several orders to be created in one request.
+ * <p>
+ *     It lets high-volume callers send many {@link OrderCreateDTO} at once, in JSON or
+ *     in the binary {@code application/cbor} format, paying the request overhead only once.
+ * </p>
+ * */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchCreateDTO {
+    private List<OrderCreateDTO> orders;
+}
@@ -0,0 +1,22 @@
+package co.edu.JdA.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) with the result of a batch of order creations.
+ * <p>
+ *     {@code created} holds the orders that were created and {@code errors} describes,
+ *     by position in the request, the ones that were rejected.
+ * </p>
+ * */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchResponseDTO {
+    private List<OrderResponseDTO> created;
+    private List<String> errors;
+}
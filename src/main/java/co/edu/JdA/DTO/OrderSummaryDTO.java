@@ -0,0 +1,49 @@
+package co.edu.JdA.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for listing a client's orders together with the client data.
+ * <p>
+ *     Instances are built directly by a JPQL constructor expression in
+ *     {@link co.edu.JdA.repository.OrderRepository}, so the whole listing is resolved
+ *     with a single SQL statement and no entity (or lazy proxy) is ever loaded.
+ * </p>
+ * */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSummaryDTO {
+    private String orderId;
+    private LocalDate orderDate;
+    private Double total;
+    private List<String> details;
+    private String clientId;
+    private String clientName;
+    private String clientEmail;
+
+    /**
+     * Constructor used by the JPQL projection.
+     * The order columns are {@code null} when the client exists but has no orders.
+     *
+     * @param clientId The client ID.
+     * @param clientName The client name.
+     * @param clientEmail The client email.
+     * @param orderId The order ID, or {@code null}.
+     * @param orderDate The order date, or {@code null}.
+     * @param total The order total, or {@code null}.
+     * @param details The order details as stored in the database, or {@code null}.
+     * */
+    public OrderSummaryDTO(String clientId, String clientName, String clientEmail,
+                           String orderId, LocalDate orderDate, Double total, String details) {
+        this(orderId, orderDate, total,
+                details != null && !details.isEmpty() ? Arrays.asList(details.split(", ")) : List.of(),
+                clientId, clientName, clientEmail);
+    }
+}
@@ -10,8 +10,19 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * {@code @EnableAutoConfiguration}, and {@code @ComponentScan} with their default attributes.
  * Its sole responsibility is to bootstrap the Spring application.
  * </p>
+ * <p>
+ * When built with {@code -Preactive}, the R2DBC auto-configuration is excluded, so this application
+ * keeps a single JDBC transaction manager and does not need {@code spring.r2dbc.url}; the beans of
+ * {@code co.edu.JdA.reactive} are limited to the {@code reactive} profile of {@code ReactiveMain}.
+ * The excluded classes are named, not referenced, because they are not on the default classpath.
+ * </p>
  */
-@SpringBootApplication
+@SpringBootApplication(excludeName = {
+        "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+        "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"
+})
 public class Main {
 
     public static void main(String[] args) {
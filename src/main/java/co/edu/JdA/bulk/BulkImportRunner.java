@@ -0,0 +1,71 @@
+package co.edu.JdA.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the bulk import when the application is started with {@code app.import.clients} and/or
+ * {@code app.import.orders}, and then shuts the application down.
+ * <p>
+ *     Example:
+ *     <pre>
+ *     java -jar app.jar --spring.main.web-application-type=none \
+ *          --app.import.clients=clients.csv --app.import.orders=orders.csv
+ *     </pre>
+ *     Clients are imported first so the orders can reference them. The exit code is 0 when every
+ *     file was imported (rejected lines are only reported) and 1 when the import failed; running
+ *     the same command again resumes from the last checkpoint.
+ * </p>
+ * */
+@Component
+@Profile("!memory")
+@ConditionalOnExpression("'${app.import.clients:}' != '' or '${app.import.orders:}' != ''")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportRunner.class);
+
+    private final BulkImporter importer;
+    private final ConfigurableApplicationContext context;
+    private final String clientsFile;
+    private final String ordersFile;
+
+    @Autowired
+    public BulkImportRunner(BulkImporter importer,
+                            ConfigurableApplicationContext context,
+                            @Value("${app.import.clients:}") String clientsFile,
+                            @Value("${app.import.orders:}") String ordersFile) {
+        this.importer = importer;
+        this.context = context;
+        this.clientsFile = clientsFile;
+        this.ordersFile = ordersFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            if (!clientsFile.isBlank()) {
+                importer.importClients(Path.of(clientsFile));
+            }
+            if (!ordersFile.isBlank()) {
+                importer.importOrders(Path.of(ordersFile));
+            }
+        } catch (Exception err) {
+            log.error("La importación masiva falló: {}", err.getMessage(), err);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,298 @@
+package co.edu.JdA.bulk;
+
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.service.ClientService;
+import co.edu.JdA.service.OrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Loads clients and orders from CSV files directly into the database.
+ * <p>
+ *     Files are read sequentially with a buffered NIO reader, in chunks of {@code app.import.chunk-size}
+ *     lines. The lines of each chunk are parsed and validated in parallel with the same rules as
+ *     {@link ClientService#registerClient} and {@link OrderService#createOrder}, and the valid rows are
+ *     written with multi-row {@code INSERT IGNORE} statements of {@code app.import.batch-size} rows,
+ *     one transaction per chunk. {@code INSERT IGNORE} would also truncate an over-long value with a mere
+ *     warning, so every value is checked against the length of its column while parsing. After each chunk the last line is saved in an {@link ImportCheckpoint},
+ *     so an interrupted import resumes where it stopped; rows that were inserted but not checkpointed
+ *     are ignored the second time because their IDs are deterministic.
+ * </p>
+ * <p>
+ *     Expected columns (an optional header line starting with {@code id} is skipped):
+ *     <ul>
+ *         <li>Clients: {@code id,name,email,registration_date} (the date is optional, today by default).</li>
+ *         <li>Orders: {@code id,client_id,order_date,total,details}. The ID is optional: without it one is
+ *         derived from the line. Details are separated by {@code ;}.</li>
+ *     </ul>
+ *     Client references of the orders are resolved against an in-memory set of the client IDs in the
+ *     database, so orders are imported after clients.
+ * </p>
+ * */
+@Component
+@Profile("!memory")
+public class BulkImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImporter.class);
+    private static final int MAX_LOGGED_REJECTIONS = 100;
+    private static final int MAX_ORDER_ID_LENGTH = 255;
+    // 'details' is a TEXT column, limited in bytes.
+    private static final int MAX_DETAILS_BYTES = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int batchSize;
+    private final int parallelism;
+
+    @Autowired
+    public BulkImporter(DataSource dataSource,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.import.chunk-size:10000}") int chunkSize,
+                        @Value("${app.import.batch-size:1000}") int batchSize,
+                        @Value("${app.import.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Imports the clients of a CSV file.
+     * @param file The CSV file.
+     * @return The result of the import.
+     * @throws IOException if the file or its checkpoint cannot be read.
+     * */
+    public ImportReport importClients(Path file) throws IOException {
+        LocalDate today = LocalDate.now();
+        return importFile(file, line -> parseClient(line, today),
+                rows -> insertIgnore("INSERT IGNORE INTO clients (id, name, email, registration_date) VALUES ", 4, rows));
+    }
+
+    /**
+     * Imports the orders of a CSV file. Their clients must already be in the database.
+     * @param file The CSV file.
+     * @return The result of the import.
+     * @throws IOException if the file or its checkpoint cannot be read.
+     * */
+    public ImportReport importOrders(Path file) throws IOException {
+        Set<String> clientIds = loadClientIds();
+        return importFile(file, line -> parseOrder(line, clientIds), this::insertNewOrders);
+    }
+
+    /**
+     * Inserts the orders whose ID is not in 'orders' nor in 'orders_archive' yet.
+     * <p>
+     *     The primary key of the partitioned 'orders' table is {@code (id, order_date)}, so the database
+     *     alone would accept an existing ID again with another date. This is the only path that takes
+     *     order IDs from outside; the API always generates a new UUID.
+     * </p>
+     * */
+    private int insertNewOrders(List<Object[]> rows) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object> ids = rows.subList(from, Math.min(from + batchSize, rows.size())).stream()
+                    .map(row -> row[0])
+                    .toList();
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            List<Object> args = new ArrayList<>(ids);
+            args.addAll(ids);
+            existing.addAll(jdbcTemplate.queryForList(
+                    "SELECT id FROM orders WHERE id IN (" + placeholders + ") " +
+                            "UNION SELECT id FROM orders_archive WHERE id IN (" + placeholders + ")",
+                    String.class, args.toArray()));
+        }
+        // Set.add also drops a repeated ID within the chunk, keeping its first line.
+        List<Object[]> newRows = rows.stream()
+                .filter(row -> existing.add((String) row[0]))
+                .toList();
+        return insertIgnore("INSERT IGNORE INTO orders (id, order_date, total, details, client_id) VALUES ", 5, newRows);
+    }
+
+    private Object[] parseClient(CsvLine line, LocalDate today) {
+        List<String> fields = line.fields();
+        if (fields.size() < 3 || fields.size() > 4) {
+            throw new InvalidDataException("Se esperaban 3 o 4 columnas y hay " + fields.size() + ".");
+        }
+        ClientService.validateClientData(fields.get(0), fields.get(1), fields.get(2));
+        LocalDate registrationDate = fields.size() == 4 && !fields.get(3).isEmpty() ? parseDate(fields.get(3)) : today;
+        return new Object[]{fields.get(0), fields.get(1), fields.get(2), registrationDate};
+    }
+
+    private Object[] parseOrder(CsvLine line, Set<String> clientIds) {
+        List<String> fields = line.fields();
+        if (fields.size() != 5) {
+            throw new InvalidDataException("Se esperaban 5 columnas y hay " + fields.size() + ".");
+        }
+        String clientId = fields.get(1);
+        List<String> details = Arrays.stream(fields.get(4).split(";")).map(String::trim).filter(d -> !d.isEmpty()).toList();
+        Double total = parseTotal(fields.get(3));
+        OrderService.validateOrderData(clientId, total, details);
+        if (!clientIds.contains(clientId)) {
+            throw new InvalidDataException(String.format("Cliente con ID %s no encontrado.", clientId));
+        }
+        if (fields.get(2).isEmpty()) {
+            // The date is part of the primary key: defaulting it would duplicate the order when resuming another day.
+            throw new InvalidDataException("La fecha del pedido es obligatoria.");
+        }
+        if (fields.get(0).length() > MAX_ORDER_ID_LENGTH) {
+            throw new InvalidDataException("El ID del pedido supera los " + MAX_ORDER_ID_LENGTH + " caracteres.");
+        }
+        String joinedDetails = String.join(", ", details);
+        if (joinedDetails.getBytes(StandardCharsets.UTF_8).length > MAX_DETAILS_BYTES) {
+            throw new InvalidDataException("Los detalles del pedido superan los " + MAX_DETAILS_BYTES + " bytes.");
+        }
+        String id = fields.get(0).isEmpty()
+                ? UUID.nameUUIDFromBytes((line.number() + ":" + line.text()).getBytes(StandardCharsets.UTF_8)).toString()
+                : fields.get(0);
+        return new Object[]{id, parseDate(fields.get(2)), total, joinedDetails, clientId};
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException err) {
+            throw new InvalidDataException("Fecha inválida (se espera AAAA-MM-DD): " + value, err);
+        }
+    }
+
+    private static Double parseTotal(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException err) {
+            throw new InvalidDataException("Total inválido: " + value, err);
+        }
+    }
+
+    private Set<String> loadClientIds() {
+        Set<String> clientIds = ConcurrentHashMap.newKeySet();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        // MySQL streams the result row by row with this fetch size instead of loading it whole.
+        streaming.setFetchSize(Integer.MIN_VALUE);
+        // Orders for a deleted client are rejected like those for an unknown one.
+        streaming.query("SELECT id FROM clients WHERE deleted_at IS NULL", rs -> {
+            clientIds.add(rs.getString(1));
+        });
+        log.info("{} IDs de clientes cargados para resolver los pedidos.", clientIds.size());
+        return clientIds;
+    }
+
+    private ImportReport importFile(Path file, Function<CsvLine, Object[]> parser, Function<List<Object[]>, Integer> loader) throws IOException {
+        long start = System.currentTimeMillis();
+        ImportCheckpoint checkpoint = new ImportCheckpoint(file);
+        long resumeAfter = checkpoint.lastLine();
+        if (resumeAfter > 0) {
+            log.info("Reanudando la importación de {} después de la línea {}.", file, resumeAfter);
+        }
+        Counters counters = new Counters();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<CsvLine> chunk = new ArrayList<>(chunkSize);
+            long number = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (number <= resumeAfter || text.isBlank() || (number == 1 && isHeader(text))) {
+                    continue;
+                }
+                chunk.add(new CsvLine(number, text));
+                if (chunk.size() == chunkSize) {
+                    processChunk(file, chunk, parser, loader, pool, counters);
+                    checkpoint.save(number);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(file, chunk, parser, loader, pool, counters);
+            }
+            checkpoint.delete();
+        } finally {
+            pool.shutdown();
+        }
+        ImportReport report = new ImportReport(file.toString(), counters.read.get(), counters.inserted.get(),
+                counters.read.get() - counters.rejected.get() - counters.inserted.get(), counters.rejected.get(),
+                System.currentTimeMillis() - start);
+        log.info("Importación de {} terminada: {} leídas, {} insertadas, {} ya existentes, {} rechazadas en {} ms.",
+                file, report.read(), report.inserted(), report.ignored(), report.rejected(), report.millis());
+        return report;
+    }
+
+    private static boolean isHeader(String text) {
+        String first = text.split(",", 2)[0].replace("\"", "").trim();
+        return first.equalsIgnoreCase("id");
+    }
+
+    private void processChunk(Path file, List<CsvLine> chunk, Function<CsvLine, Object[]> parser,
+                              Function<List<Object[]>, Integer> loader, ForkJoinPool pool, Counters counters) throws IOException {
+        List<Object[]> rows;
+        try {
+            // Parallel streams run in the pool that submits them, so parsing uses app.import.parallelism threads.
+            rows = pool.submit(() -> chunk.parallelStream()
+                    .map(line -> parseOrReject(file, line, parser, counters))
+                    .filter(Objects::nonNull)
+                    .toList()).get();
+        } catch (InterruptedException err) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importación interrumpida.", err);
+        } catch (ExecutionException err) {
+            throw new IOException("Error al procesar el archivo " + file, err.getCause());
+        }
+        Integer inserted = transactionTemplate.execute(status -> loader.apply(rows));
+        counters.read.addAndGet(chunk.size());
+        counters.inserted.addAndGet(inserted != null ? inserted : 0);
+        log.info("{}: {} líneas procesadas hasta la línea {}.", file, counters.read.get(), chunk.get(chunk.size() - 1).number());
+    }
+
+    private Object[] parseOrReject(Path file, CsvLine line, Function<CsvLine, Object[]> parser, Counters counters) {
+        try {
+            return parser.apply(line);
+        } catch (InvalidDataException err) {
+            if (counters.rejected.incrementAndGet() <= MAX_LOGGED_REJECTIONS) {
+                log.warn("{}, línea {} rechazada: {}", file, line.number(), err.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private int insertIgnore(String insert, int columns, List<Object[]> rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            Object[] args = new Object[batch.size() * columns];
+            for (int i = 0; i < batch.size(); i++) {
+                System.arraycopy(batch.get(i), 0, args, i * columns, columns);
+            }
+            inserted += jdbcTemplate.update(insert + String.join(", ", Collections.nCopies(batch.size(), placeholders)), args);
+        }
+        return inserted;
+    }
+
+    private static class Counters {
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+    }
+}
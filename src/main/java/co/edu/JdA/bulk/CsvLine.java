@@ -0,0 +1,54 @@
+package co.edu.JdA.bulk;
+
+import co.edu.JdA.exception.InvalidDataException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A line of a CSV file together with its position in the file.
+ * <p>
+ *     Fields are separated by commas and may be enclosed in double quotes to contain commas;
+ *     a double quote inside a quoted field is written twice. Fields cannot span several lines.
+ * </p>
+ * @param number The line number, starting at 1.
+ * @param text The content of the line.
+ * */
+record CsvLine(long number, String text) {
+
+    /**
+     * Splits the line into its fields.
+     * @return The fields, without the enclosing quotes.
+     * @throws InvalidDataException if a quoted field is not closed.
+     * */
+    List<String> fields() throws InvalidDataException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidDataException("Campo entre comillas sin cerrar.");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -0,0 +1,44 @@
+package co.edu.JdA.bulk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Remembers the last line of a CSV file whose rows are already committed to the database.
+ * <p>
+ *     Stored next to the file as {@code <file>.checkpoint}. It is replaced atomically after each
+ *     chunk, so an interrupted import resumes from the last complete chunk, and deleted when the
+ *     file has been imported completely.
+ * </p>
+ * */
+class ImportCheckpoint {
+
+    private final Path file;
+
+    ImportCheckpoint(Path csvFile) {
+        this.file = csvFile.resolveSibling(csvFile.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * @return The last committed line, or 0 if the import has not started.
+     * */
+    long lastLine() throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim());
+    }
+
+    void save(long line) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(line), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
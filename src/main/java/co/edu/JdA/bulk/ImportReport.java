@@ -0,0 +1,13 @@
+package co.edu.JdA.bulk;
+
+/**
+ * Result of importing one CSV file.
+ * @param file The imported file.
+ * @param read Data lines read in this run (lines before the checkpoint are not read again).
+ * @param inserted Rows inserted in the database.
+ * @param ignored Valid rows that were already in the database (same ID, or same email for clients).
+ * @param rejected Rows that failed validation.
+ * @param millis Duration of the import.
+ * */
+public record ImportReport(String file, long read, long inserted, long ignored, long rejected, long millis) {
+}
@@ -0,0 +1,176 @@
+package co.edu.JdA.cache;
+
+import co.edu.JdA.datasource.RoutingContext;
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.repository.ClientRepository;
+import co.edu.JdA.service.ClientSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Broadcasts client changes to the other instances over UDP multicast and applies the ones it receives.
+ * <p>
+ *     Every instance joins the same multicast group. When a client is created, updated or deleted, the instance
+ *     that made the change sends {@code client-evict|<instance id>|<client id>} after commit; the others
+ *     evict the client from their second-level cache, clear the {@code findByEmail} query region and
+ *     refresh their {@link ClientSearchIndex}. Messages from the own instance are ignored.
+ * </p>
+ * <p>
+ *     Multicast needs no broker, and several instances on the same machine receive each other's messages
+ *     through the loopback, so the behaviour can be tried locally by starting two instances with
+ *     {@code app.cache.invalidation.interface=lo}. A lost datagram leaves an entry stale at most until the
+ *     TTL of its region in {@code ehcache.xml}.
+ * </p>
+ * <p>
+ *     It is active whenever the second-level cache is ({@code app.cache.l2.enabled}, on by default). A single
+ *     instance can turn it off with {@code app.cache.invalidation.enabled=false}; startup fails if the group
+ *     cannot be joined, rather than running with caches that silently drift apart.
+ * </p>
+ * */
+@Component
+@Profile("!memory")
+// On whenever the second-level cache is, so several instances never serve each other's stale entries by default.
+@ConditionalOnExpression("${app.cache.l2.enabled:true} and ${app.cache.invalidation.enabled:true}")
+public class ClientCacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientCacheInvalidationBus.class);
+    private static final String CLIENT_EVICT = "client-evict";
+    private static final int MAX_MESSAGE_BYTES = 512;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final ClientRepository clientRepository;
+    private final ClientSearchIndex searchIndex;
+    private final InetSocketAddress group;
+    private final String interfaceName;
+    private final int timeToLive;
+    private NetworkInterface networkInterface;
+    private MulticastSocket socket;
+    private Thread receiver;
+
+    @Autowired
+    public ClientCacheInvalidationBus(EntityManagerFactory entityManagerFactory,
+                                      ClientRepository clientRepository,
+                                      ClientSearchIndex searchIndex,
+                                      @Value("${app.cache.invalidation.group:239.255.27.1}") String groupAddress,
+                                      @Value("${app.cache.invalidation.port:45588}") int port,
+                                      @Value("${app.cache.invalidation.interface:}") String interfaceName,
+                                      @Value("${app.cache.invalidation.ttl:1}") int timeToLive) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.clientRepository = clientRepository;
+        this.searchIndex = searchIndex;
+        this.group = new InetSocketAddress(groupAddress, port);
+        this.interfaceName = interfaceName;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Joins the multicast group and starts the receiving thread.
+     * */
+    @PostConstruct
+    public void start() throws IOException {
+        networkInterface = interfaceName.isBlank() ? null : NetworkInterface.getByName(interfaceName);
+        if (!interfaceName.isBlank() && networkInterface == null) {
+            throw new IllegalStateException("Interfaz de red no encontrada: " + interfaceName);
+        }
+        socket = new MulticastSocket(group.getPort());
+        socket.setTimeToLive(timeToLive);
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        try {
+            socket.joinGroup(group, networkInterface);
+        } catch (IOException err) {
+            socket.close();
+            throw new IllegalStateException("No se pudo unir al grupo de invalidación " + group
+                    + "; configure app.cache.invalidation.interface o desactívela con app.cache.invalidation.enabled=false", err);
+        }
+        receiver = Thread.ofPlatform().name("client-cache-invalidation").daemon().start(this::receive);
+        log.info("Invalidación de caché de clientes activa en {} (instancia {}).", group, instanceId);
+    }
+
+    /**
+     * Announces that a client changed so the other instances drop their copy.
+     * @param clientId The ID of the client that was updated or deleted.
+     * */
+    public void publish(String clientId) {
+        byte[] message = String.join("|", CLIENT_EVICT, instanceId, clientId).getBytes(StandardCharsets.UTF_8);
+        try {
+            socket.send(new DatagramPacket(message, message.length, group));
+        } catch (IOException err) {
+            // The region TTL bounds how long the other instances keep the stale entry.
+            log.error("No se pudo enviar la invalidación del cliente {}: {}", clientId, err.getMessage());
+        }
+    }
+
+    private void receive() {
+        // Invalidations are received after the commit on the primary, so never reload from a lagging replica.
+        RoutingContext.forcePrimary();
+        byte[] buffer = new byte[MAX_MESSAGE_BYTES];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                handle(new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+            } catch (IOException err) {
+                if (!socket.isClosed()) {
+                    log.error("Error al recibir invalidaciones de caché: {}", err.getMessage());
+                }
+            } catch (RuntimeException err) {
+                log.error("Error al aplicar una invalidación de caché: {}", err.getMessage());
+            }
+        }
+    }
+
+    private void handle(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || !CLIENT_EVICT.equals(parts[0])) {
+            log.warn("Mensaje de invalidación desconocido: {}", message);
+            return;
+        }
+        if (instanceId.equals(parts[1])) {
+            return;
+        }
+        String clientId = parts[2];
+        entityManagerFactory.getCache().evict(ClientEntity.class, clientId);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(HibernateCacheConfig.CLIENT_EMAIL_QUERY_REGION);
+        Optional<ClientEntity> client = clientRepository.findByIdAndDeletedAtIsNull(clientId);
+        if (client.isPresent()) {
+            searchIndex.upsert(client.get());
+        } else {
+            searchIndex.remove(clientId);
+        }
+        log.info("Cliente {} invalidado por la instancia {}.", clientId, parts[1]);
+    }
+
+    /**
+     * Leaves the multicast group and stops the receiving thread.
+     * */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        try {
+            socket.leaveGroup(group, networkInterface);
+        } catch (IOException err) {
+            log.warn("No se pudo abandonar el grupo de invalidación: {}", err.getMessage());
+        }
+        socket.close();
+        receiver.join(1000);
+    }
+}
@@ -0,0 +1,53 @@
+package co.edu.JdA.cache;
+
+import co.edu.JdA.entity.ClientEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that tells the other instances when a client changes.
+ * <p>
+ *     The message is only sent after the transaction commits, so the other instances
+ *     never evict their cache before the change is visible in the database and then
+ *     reload the old row. Inserts are announced as well: the ID itself is not cached anywhere, but
+ *     the {@code findByEmail} query region may hold an empty result for the new email, which would
+ *     let another instance register a second client with the same email until the region expires.
+ * </p>
+ * */
+@Component
+public class ClientCacheInvalidationListener {
+
+    private final ObjectProvider<ClientCacheInvalidationBus> invalidationBus;
+
+    @Autowired
+    public ClientCacheInvalidationListener(ObjectProvider<ClientCacheInvalidationBus> invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void clientChanged(ClientEntity client) {
+        ClientCacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        if (bus == null) {
+            return;
+        }
+        String clientId = client.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bus.publish(clientId);
+                }
+            });
+        } else {
+            bus.publish(clientId);
+        }
+    }
+}
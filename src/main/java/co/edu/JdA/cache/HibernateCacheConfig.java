@@ -0,0 +1,50 @@
+package co.edu.JdA.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Enables the Hibernate second-level cache and query cache.
+ * <p>
+ *     Entities marked with {@code @Cache} (currently {@link co.edu.JdA.entity.ClientEntity}) are kept
+ *     in Ehcache regions described in {@code ehcache.xml}, so {@code findById} does not hit the
+ *     database nor rebuild the entity while the entry is cached. Statistics are enabled so that
+ *     {@link HibernateCacheMetrics} can publish hit ratios and region sizes.
+ * </p>
+ * <p>
+ *     Each instance has its own local cache; {@link ClientCacheInvalidationBus}, active together with
+ *     this configuration by default, keeps them consistent when several instances run against the same database.
+ * </p>
+ * */
+@Configuration
+@Profile("!memory")
+@ConditionalOnProperty(prefix = "app.cache.l2", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    /**
+     * Region holding {@link co.edu.JdA.entity.ClientEntity} instances.
+     * */
+    public static final String CLIENT_REGION = "clients";
+
+    /**
+     * Query cache region holding the results of {@code ClientRepository.findByEmail}.
+     * */
+    public static final String CLIENT_EMAIL_QUERY_REGION = "clients-by-email";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", "true");
+            properties.put("hibernate.cache.use_query_cache", "true");
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            properties.put("hibernate.javax.cache.uri", "classpath:ehcache.xml");
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            properties.put("hibernate.generate_statistics", "true");
+            properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.JdA.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hit ratio and size of the second-level cache regions as metrics.
+ * <p>
+ *     For each region (tag {@code region}) it registers:
+ *     <ul>
+ *         <li>{@code hibernate.cache.requests}: hits and misses (tag {@code result}).</li>
+ *         <li>{@code hibernate.cache.hit.ratio}: hits divided by lookups since startup.</li>
+ *         <li>{@code hibernate.cache.region.size}: entries currently held in memory.</li>
+ *     </ul>
+ *     They can be read under {@code /actuator/metrics}.
+ * </p>
+ * */
+@Component
+@Profile("!memory")
+@ConditionalOnProperty(prefix = "app.cache.l2", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    @Autowired
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindRegion(registry, HibernateCacheConfig.CLIENT_REGION, statistics::getDomainDataRegionStatistics);
+        bindRegion(registry, HibernateCacheConfig.CLIENT_EMAIL_QUERY_REGION, statistics::getQueryRegionStatistics);
+    }
+
+    private void bindRegion(MeterRegistry registry, String region, Function<String, CacheRegionStatistics> lookup) {
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> stat(lookup, region, CacheRegionStatistics::getHitCount))
+                .tag("region", region).tag("result", "hit")
+                .description("Second-level cache lookups that found the entry")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> stat(lookup, region, CacheRegionStatistics::getMissCount))
+                .tag("region", region).tag("result", "miss")
+                .description("Second-level cache lookups that had to go to the database")
+                .register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(lookup.apply(region)))
+                .tag("region", region)
+                .description("Hits divided by lookups since startup")
+                .register(registry);
+        Gauge.builder("hibernate.cache.region.size", statistics, s -> stat(lookup, region, CacheRegionStatistics::getElementCountInMemory))
+                .tag("region", region)
+                .description("Entries held in memory by the region")
+                .register(registry);
+    }
+
+    private static double stat(Function<String, CacheRegionStatistics> lookup, String region,
+                               ToDoubleFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics = lookup.apply(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        double result = value.applyAsDouble(regionStatistics);
+        // Providers without the statistic report NO_EXTENDED_STAT_SUPPORT_RETURN (a negative value).
+        return result < 0 ? Double.NaN : result;
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return lookups == 0 ? 0.0 : (double) regionStatistics.getHitCount() / lookups;
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.JdA.config;
+
+import org.springframework.boot.DefaultPropertiesPropertySource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Adds the defaults of {@code observability-defaults.properties} to the environment.
+ * <p>
+ *     Settings owned by Spring Boot, such as {@code logging.pattern.correlation}, cannot take a default in an {@code @Value} like the
+ *     {@code app.*} ones, and {@code application.properties} is not part of the repository. The file is
+ *     added with the lowest precedence, so any other source overrides it. Registered in
+ *     {@code META-INF/spring.factories}; it runs after the config data has been loaded.
+ * </p>
+ * */
+public class ObservabilityDefaultsPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String RESOURCE = "observability-defaults.properties";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        try {
+            environment.getPropertySources().addLast(new ResourcePropertySource("observabilityDefaults", new ClassPathResource(RESOURCE)));
+        } catch (IOException err) {
+            throw new UncheckedIOException("No se pudo leer " + RESOURCE, err);
+        }
+        // SpringApplication.setDefaultProperties stays the last resort.
+        DefaultPropertiesPropertySource.moveToEnd(environment);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
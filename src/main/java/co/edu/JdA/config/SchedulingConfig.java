@@ -0,0 +1,12 @@
+package co.edu.JdA.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the execution of {@code @Scheduled} background tasks.
+ * */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
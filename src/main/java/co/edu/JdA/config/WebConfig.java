@@ -0,0 +1,49 @@
+package co.edu.JdA.config;
+
+import co.edu.JdA.web.LoadSheddingInterceptor;
+import co.edu.JdA.web.RateLimitInterceptor;
+import co.edu.JdA.web.ReadYourWritesInterceptor;
+import co.edu.JdA.web.SqlStatementBudgetInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration that registers the application's interceptors.
+ * <p>
+ *     Interceptors that depend on optional features are only registered when their bean exists.
+ *     Rate limiting runs first, so a caller over its quota is rejected before taking a
+ *     concurrency slot.
+ * </p>
+ * */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String API_PATHS = "/api/**";
+
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+    private final ObjectProvider<LoadSheddingInterceptor> loadSheddingInterceptor;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+    private final ObjectProvider<SqlStatementBudgetInterceptor> sqlStatementBudgetInterceptor;
+
+    @Autowired
+    public WebConfig(ObjectProvider<RateLimitInterceptor> rateLimitInterceptor,
+                     ObjectProvider<LoadSheddingInterceptor> loadSheddingInterceptor,
+                     ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor,
+                     ObjectProvider<SqlStatementBudgetInterceptor> sqlStatementBudgetInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.loadSheddingInterceptor = loadSheddingInterceptor;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+        this.sqlStatementBudgetInterceptor = sqlStatementBudgetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        rateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns(API_PATHS));
+        loadSheddingInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns(API_PATHS));
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
+        sqlStatementBudgetInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns(API_PATHS));
+    }
+}
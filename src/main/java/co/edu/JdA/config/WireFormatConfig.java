@@ -0,0 +1,26 @@
+package co.edu.JdA.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration of the binary wire format used by internal services.
+ * <p>
+ *     Registers a CBOR message converter so every endpoint that exchanges DTOs also accepts and
+ *     produces {@code application/cbor} through regular content negotiation. It is built from the
+ *     same {@link Jackson2ObjectMapperBuilder} as the JSON converter, so both formats share
+ *     the same Jackson settings and DTOs. Endpoints that answer with a text message declare
+ *     {@code text/plain} and JSON only. {@code WireFormatBenchmark} compares both formats.
+ * </p>
+ * */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
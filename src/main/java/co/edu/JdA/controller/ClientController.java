@@ -5,13 +5,19 @@ import co.edu.JdA.entity.ClientEntity;
 import co.edu.JdA.exception.ClientNotFoundException;
 import co.edu.JdA.exception.IdDuplicadoException;
 import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.exception.VersionConflictException;
 import co.edu.JdA.service.ClientService;
 import co.edu.JdA.service.OrderService;
+import co.edu.JdA.web.SqlStatementBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 import co.edu.JdA.DTO.ClientCreationDTO;
 
@@ -26,6 +32,11 @@ import java.util.stream.Collectors;
  *     That handles HTTP requests and returns the response directly.
  *     This class delegates business logic to service classes.
  * </p>
+ * <p>
+ *     Endpoints that answer with a text message only produce {@code text/plain} or JSON:
+ *     a request accepting only {@code application/cbor} gets 406 (Not Acceptable) instead of
+ *     plain text labelled as CBOR.
+ * </p>
  * */
 @RestController
 @RequestMapping("api/clientes")
@@ -33,11 +44,14 @@ public class ClientController {
     private static final Logger log = LoggerFactory.getLogger(ClientController.class);
     private final ClientService clientService;
     private final OrderService orderService;
+    private final boolean ifMatchRequired;
 
     @Autowired
-    public ClientController(ClientService clientService, OrderService orderService) {
+    public ClientController(ClientService clientService, OrderService orderService,
+                            @Value("${app.clients.update.if-match-required:false}") boolean ifMatchRequired) {
         this.clientService = clientService;
         this.orderService = orderService;
+        this.ifMatchRequired = ifMatchRequired;
     }
 
     /**
@@ -46,7 +60,9 @@ public class ClientController {
      * @param clientDTO The Client object from the request body.
      * @return A message indicating success.
      */
-    @PostMapping("/registrar")
+    @PostMapping(value = "/registrar", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    // existsById, findByEmail and the insert (a null version marks the client as new, so save() does not select first).
+    @SqlStatementBudget(3)
     public ResponseEntity<String> registerClient (@RequestBody ClientCreationDTO clientDTO) {
         log.info("Iniciando registro de cliente");
         try {
@@ -66,12 +82,38 @@ public class ClientController {
         }
     }
 
+    /**
+     * Endpoint to search clients by name or email.
+     * <p>
+     *     Matches whole words, prefixes and small typos, and returns the best results first.
+     * </p>
+     * @param query The text to search for.
+     * @param limit The maximum number of results (10 by default).
+     * @return The matching clients or a 400 error if the parameters are invalid.
+     * */
+    @GetMapping("/buscar")
+    @SqlStatementBudget(0)
+    public ResponseEntity<List<ClientResponseDTO>> searchClients(@RequestParam("q") String query,
+                                                                 @RequestParam(value = "limite", defaultValue = "10") int limit) {
+        log.info("Solicitud de búsqueda de clientes: {}", query);
+        try {
+            return new ResponseEntity<>(clientService.searchClients(query, limit), HttpStatus.OK);
+        } catch (InvalidDataException err) {
+            log.error("Error en la búsqueda de clientes: {}", err.getMessage());
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST); // 400
+        } catch (Exception err) {
+            log.error("Error inesperado al buscar clientes: {}", err.getMessage());
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR); // 500
+        }
+    }
+
     /**
      * Endpoint to search for a client by their ID.
      * @param id The ID of the client to search for, passed in the URL path.
      * @return A ResponseEntity containing the client dara or an error message.
      */
     @GetMapping("/{id}")
+    @SqlStatementBudget(1)
     public ResponseEntity<ClientResponseDTO> searchClientById(@PathVariable String id) {
         log.info("Iniciando búsqueda de cliente con ID: {}", id);
         try {
@@ -79,8 +121,8 @@ public class ClientController {
             ClientEntity clientEntity = clientService.searchClient(id);
             // Converts the entity to a DTO for the response.
             ClientResponseDTO responseDTO = ClientResponseDTO.fromEntity(clientEntity);
-            // Returns the DTO with a 200 OK status
-            return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+            // Returns the DTO with a 200 OK status and the version as ETag, to be sent back in If-Match.
+            return new ResponseEntity<>(responseDTO, eTagOf(clientEntity), HttpStatus.OK);
         } catch (ClientNotFoundException err) {
             // It the client is not found, a 404 error is retured.
             log.warn("No se encontró el cliente con ID {}: {}", id, err.getMessage());
@@ -120,17 +162,18 @@ public class ClientController {
      * Delete a client by their ID
      * <p>
      *     This endpoint deletes a client corresponding to the ID provided in the URL.
-     *     If the client does not exist, respond with 404. If the deletion is successful, respond with 200.
+     *     If the client does not exist, respond with 404. Otherwise the client is hidden at once and
+     *     the response is 202, because its orders are removed in the background.
      * </p>
      * @param id The ID of the client to be deleted
      * @return A message indicating the result of the operation.
      * */
-    @DeleteMapping("/{id}")
+    @DeleteMapping(value = "/{id}", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_JSON_VALUE})
     public ResponseEntity<String> deleteClient(@PathVariable String id) {
         log.info("Solicitud para eliminar cliente con ID: {}", id);
         try {
             clientService.deleteClient(id);
-            return new ResponseEntity<>("Cliente eliminado exitosamente.", HttpStatus.OK);
+            return new ResponseEntity<>("Cliente eliminado exitosamente. Sus pedidos se eliminarán en segundo plano.", HttpStatus.ACCEPTED); // 202
         } catch (ClientNotFoundException err) {
             log.warn("No esta el cliente con ID {}: {}", id, err.getMessage());
             return new ResponseEntity<>(err.getMessage(), HttpStatus.NOT_FOUND);
@@ -149,25 +192,74 @@ public class ClientController {
      *     Receives the client ID in the  URL and the new data in the request body.
      *     Returns a message indicating the result of the operation.
      * </p>
+     * <p>
+     *     When the {@code If-Match} header holds the ETag returned by {@code GET /api/clientes/{id}},
+     *     the update is only applied if nobody modified the client since it was read; otherwise
+     *     the response is 409 and the client must be read again. The new ETag is returned on success.
+     *     Without the header the update is unconditional, as before; {@code If-Match: *} is the same.
+     *     Setting {@code app.clients.update.if-match-required=true} answers updates without the header
+     *     with 428 (Precondition Required), so a caller that never read the version cannot overwrite
+     *     someone else's change by mistake.
+     * </p>
      * @param id The ID of the client to update.
      * @param clientDTO DTO with the new client data.
+     * @param ifMatch The ETag of the version the update is based on, or {@code *}.
      * @return Success or error message depending on the result.
      * */
-    @PutMapping("/{id}")
-    public ResponseEntity<String> updateClient(@PathVariable String id, @RequestBody ClientCreationDTO clientDTO) {
+    @PutMapping(value = "/{id}", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<String> updateClient(@PathVariable String id, @RequestBody ClientCreationDTO clientDTO,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Solicitud para actualizar cliente con ID: {}", id);
+        if (ifMatchRequired && (ifMatch == null || ifMatch.isBlank())) {
+            log.warn("Actualización del cliente con ID {} sin cabecera If-Match.", id);
+            return new ResponseEntity<>("Envíe en If-Match el ETag obtenido al consultar el cliente, o * para actualizar sin comprobar la versión.",
+                    HttpStatus.PRECONDITION_REQUIRED); // 428
+        }
         try {
-            clientService.updateClient(id, clientDTO);
-            return new ResponseEntity<>("Cliente actualizado exitosamente.", HttpStatus.OK);
+            ClientEntity updatedClient = clientService.updateClient(id, clientDTO, parseVersion(ifMatch));
+            return new ResponseEntity<>("Cliente actualizado exitosamente.", eTagOf(updatedClient), HttpStatus.OK);
         } catch (ClientNotFoundException err) {
             log.warn("No esta el cliente con ID {}: {}", id, err.getMessage());
             return new ResponseEntity<>(err.getMessage(), HttpStatus.NOT_FOUND);
         } catch (InvalidDataException err) {
             log.error("Error al actualizar el cliente: {}", err.getMessage());
             return new ResponseEntity<>(err.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (VersionConflictException err) {
+            log.warn("Conflicto al actualizar el cliente con ID {}: {}", id, err.getMessage());
+            return new ResponseEntity<>(err.getMessage(), HttpStatus.CONFLICT); // 409
+        } catch (ObjectOptimisticLockingFailureException err) {
+            log.warn("Actualización concurrente del cliente con ID {}: {}", id, err.getMessage());
+            return new ResponseEntity<>("El cliente fue modificado por otra solicitud. Consúltelo de nuevo.", HttpStatus.CONFLICT); // 409
         } catch (Exception err) {
             log.error("Error inesperado al actualizar cliente con ID {}: {}", id, err.getMessage());
             return new ResponseEntity<>("Error interno del servidor.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    private static HttpHeaders eTagOf(ClientEntity client) {
+        HttpHeaders headers = new HttpHeaders();
+        if (client.getVersion() != null) {
+            headers.setETag("\"" + client.getVersion() + "\"");
+        }
+        return headers;
+    }
+
+    /**
+     * Reads the version from an {@code If-Match} value such as {@code "3"} or {@code W/"3"}.
+     * @return The version, or {@code null} when the header is missing or {@code *} (any version).
+     * */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.valueOf(value.replace("\"", ""));
+        } catch (NumberFormatException err) {
+            throw new InvalidDataException("Cabecera If-Match inválida: " + ifMatch);
+        }
+    }
+}
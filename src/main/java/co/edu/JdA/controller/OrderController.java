@@ -1,20 +1,31 @@
 package co.edu.JdA.controller;
 
+import co.edu.JdA.DTO.OrderBatchCreateDTO;
+import co.edu.JdA.DTO.OrderBatchResponseDTO;
 import co.edu.JdA.DTO.OrderCreateDTO;
 import co.edu.JdA.DTO.OrderResponseDTO;
+import co.edu.JdA.DTO.OrderSummaryDTO;
 import co.edu.JdA.entity.OrderEntity;
 import co.edu.JdA.exception.ClientNotFoundException;
 import co.edu.JdA.exception.IdDuplicadoException;
+import co.edu.JdA.exception.IdempotencyKeyMismatchException;
 import co.edu.JdA.exception.InvalidDataException;
 import co.edu.JdA.exception.OrderNotFoundException;
+import co.edu.JdA.service.IdempotentOrderService;
 import co.edu.JdA.service.OrderService;
+import co.edu.JdA.web.SqlStatementBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * REST controller for managing orders.
  * <p>
@@ -30,28 +41,52 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("api/ordenes")
 public class OrderController {
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final int maxBatchSize;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, IdempotentOrderService idempotentOrderService,
+                           @Value("${app.orders.batch.max-size:100}") int maxBatchSize) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     /**
      * Registers a new order in the system.
+     * <p>
+     *     When the request carries an {@code Idempotency-Key} header, a retry with the same key
+     *     returns the original result without creating a second order, and the response
+     *     includes the {@code Idempotent-Replayed: true} header. Reusing a key for another client
+     *     or with other order data is answered with 422 (Unprocessable Entity).
+     * </p>
      * @param orderDTO The DTO containing the order data (clientId, total, details).
-     * @return A {@link ResponseEntity} with a success message and status 201 (Created).
+     * @param idempotencyKey Optional key that identifies the request across retries.
+     * @return A {@link ResponseEntity} with a success message (text, not CBOR) and status 201 (Created).
      * In case of an error, returns an appropriate status code and message.
      * */
-    @PostMapping("/registrar")
-    public ResponseEntity<String> registerOrder (@RequestBody OrderCreateDTO orderDTO) {
+    @PostMapping(value = "/registrar", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<String> registerOrder (@RequestBody OrderCreateDTO orderDTO,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("Creando orden para el cliente: {}", orderDTO.getClientId());
         try {
-            orderService.createOrder(orderDTO.getClientId(), orderDTO.getTotal(), orderDTO.getDetails());
+            IdempotentOrderService.Result result = idempotentOrderService.createOrder(
+                    idempotencyKey, orderDTO.getClientId(), orderDTO.getTotal(), orderDTO.getDetails());
+            if (result.replayed()) {
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .body("Orden creada exitosamente");
+            }
             return new ResponseEntity<>("Orden creada exitosamente", HttpStatus.CREATED);
         } catch (IdDuplicadoException error) {
             log.error("Error al registrar orden: {}", error.getMessage());
             return new ResponseEntity<>(error.getMessage(), HttpStatus.CONFLICT);
+        } catch (IdempotencyKeyMismatchException error) {
+            log.error("Error al registrar orden: {}", error.getMessage());
+            return new ResponseEntity<>(error.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
         } catch (InvalidDataException | ClientNotFoundException error) {
             log.error("Error al registrar la orden, datos inválidos o cliente no encontrado: {}", error.getMessage());
             return new ResponseEntity<>(error.getMessage(), HttpStatus.BAD_REQUEST);
@@ -61,12 +96,69 @@ public class OrderController {
         }
     }
 
+    /**
+     * Registers a batch of orders in a single request.
+     * <p>
+     *     Each order is created independently, so a rejected order does not prevent the others.
+     *     It accepts and produces JSON or {@code application/cbor}. A batch holds at most
+     *     {@code app.orders.batch.max-size} orders (100 by default), since they are created one
+     *     after the other on the request thread.
+     * </p>
+     * @param batchDTO The envelope with the orders to create.
+     * @return 201 (Created) if every order was created, 207 (Multi-Status) if some were rejected,
+     * 400 (Bad Request) if the batch is empty, too large or none of its orders was valid,
+     * or 500 if none was created because of an unexpected error.
+     * */
+    @PostMapping("/registrar/lote")
+    public ResponseEntity<OrderBatchResponseDTO> registerOrderBatch(@RequestBody OrderBatchCreateDTO batchDTO) {
+        List<OrderCreateDTO> orders = batchDTO.getOrders();
+        if (orders == null || orders.isEmpty()) {
+            log.error("Lote de órdenes vacío.");
+            return new ResponseEntity<>(new OrderBatchResponseDTO(List.of(), List.of("El lote no contiene órdenes.")), HttpStatus.BAD_REQUEST);
+        }
+        if (orders.size() > maxBatchSize) {
+            log.error("Lote de {} órdenes supera el máximo de {}.", orders.size(), maxBatchSize);
+            return new ResponseEntity<>(new OrderBatchResponseDTO(List.of(),
+                    List.of(String.format("El lote supera el máximo de %d órdenes.", maxBatchSize))), HttpStatus.BAD_REQUEST);
+        }
+        log.info("Creando lote de {} órdenes", orders.size());
+        List<OrderResponseDTO> created = new ArrayList<>(orders.size());
+        List<String> errors = new ArrayList<>();
+        boolean internalError = false;
+        for (int i = 0; i < orders.size(); i++) {
+            OrderCreateDTO orderDTO = orders.get(i);
+            try {
+                OrderEntity order = orderService.createOrder(orderDTO.getClientId(), orderDTO.getTotal(), orderDTO.getDetails());
+                created.add(OrderResponseDTO.fromEntity(order));
+            } catch (InvalidDataException | ClientNotFoundException error) {
+                log.error("Orden {} del lote rechazada: {}", i, error.getMessage());
+                errors.add(String.format("Orden %d: %s", i, error.getMessage()));
+            } catch (Exception error) {
+                log.error("Error inesperado al crear la orden {} del lote: {}", i, error.getMessage());
+                errors.add(String.format("Orden %d: Error interno del servidor.", i));
+                internalError = true;
+            }
+        }
+        HttpStatus status;
+        if (errors.isEmpty()) {
+            status = HttpStatus.CREATED;
+        } else if (!created.isEmpty()) {
+            status = HttpStatus.MULTI_STATUS;
+        } else {
+            status = internalError ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.BAD_REQUEST;
+        }
+        return new ResponseEntity<>(new OrderBatchResponseDTO(created, errors), status);
+    }
+
     /**
      * Endpoint to search for an order by its ID.
      * @param id The ID of the order to search fot, passed in the URL path.
      * @return A ResponseEntity containing the order data or an error message.
      * */
     @GetMapping("/{id}")
+    // The order, or the archive when it is no longer in the partitioned table, plus the check that its
+    // client was not deleted (served from the second-level cache when the client is there).
+    @SqlStatementBudget(3)
     public ResponseEntity<OrderResponseDTO> searchOrderById(@PathVariable String id) {
         log.info("Iniciando búsqueda de orden con ID: {}", id);
         try {
@@ -86,4 +178,28 @@ public class OrderController {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Endpoint to list the orders of a client, including the client's name and email.
+     * @param clientId The ID of the client, passed in the URL path.
+     * @return A ResponseEntity containing the order summaries or an error status.
+     * */
+    @GetMapping("/cliente/{clientId}")
+    @SqlStatementBudget(1)
+    public ResponseEntity<List<OrderSummaryDTO>> listOrdersByClient(@PathVariable String clientId) {
+        log.info("Listando pedidos del cliente con ID: {}", clientId);
+        try {
+            List<OrderSummaryDTO> summaries = orderService.listOrderSummariesClient(clientId);
+            return new ResponseEntity<>(summaries, HttpStatus.OK);
+        } catch (ClientNotFoundException error) {
+            log.warn("No se encontró el cliente con ID {}: {}", clientId, error.getMessage());
+            return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
+        } catch (InvalidDataException error) {
+            log.error("Error al listar pedidos del cliente: {}", error.getMessage());
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        } catch (Exception error) {
+            log.error("Error inesperado al listar pedidos del cliente con ID {}: {}", clientId, error.getMessage());
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package co.edu.JdA.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each caller last wrote, so its reads can stay on the primary for a short window.
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long stickinessMillis;
+
+    @Autowired
+    public ReadYourWritesTracker(ReplicaRoutingProperties properties) {
+        this.stickinessMillis = properties.getStickinessSeconds() * 1000;
+    }
+
+    /**
+     * Records a write made by the caller.
+     * @param callerKey The key identifying the caller.
+     * */
+    public void recordWrite(String callerKey) {
+        lastWrites.put(callerKey, System.currentTimeMillis());
+    }
+
+    /**
+     * @param callerKey The key identifying the caller.
+     * @return {@code true} if the caller wrote within the stickiness window.
+     * */
+    public boolean wroteRecently(String callerKey) {
+        Long lastWrite = lastWrites.get(callerKey);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < stickinessMillis;
+    }
+
+    /**
+     * Drops the callers whose stickiness window has expired.
+     * */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= stickinessMillis);
+    }
+}
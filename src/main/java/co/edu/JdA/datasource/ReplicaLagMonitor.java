@@ -0,0 +1,74 @@
+package co.edu.JdA.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Periodically measures the replication lag of every replica and excludes the ones that fall behind.
+ * <p>
+ *     A replica is taken out of rotation when {@code SHOW REPLICA STATUS} reports a lag greater than
+ *     {@link ReplicaRoutingProperties#getMaxLagSeconds()}, when replication is stopped, when the
+ *     instance is not replicating at all, or when its status cannot be read (the user needs the
+ *     {@code REPLICATION CLIENT} privilege). Every doubt sends the reads to the primary.
+ * </p>
+ * <p>
+ *     Replicas start out of rotation and join it after the first check, which runs on the scheduler
+ *     once the application has started, so an unreachable replica never delays startup.
+ * </p>
+ * */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Map<String, DataSource> replicas, long maxLagSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * Checks every replica and updates the set of replicas eligible for reads.
+     * */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach((key, dataSource) -> {
+            boolean healthy = isWithinLag(key, dataSource);
+            boolean wasHealthy = routingDataSource.getHealthyReplicas().contains(key);
+            if (healthy != wasHealthy) {
+                log.warn("Réplica {} {} para lecturas.", key, healthy ? "habilitada" : "deshabilitada");
+            }
+            routingDataSource.setReplicaHealthy(key, healthy);
+        });
+    }
+
+    private boolean isWithinLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                log.warn("La instancia {} no está configurada como réplica.", key);
+                return false;
+            }
+            long lag = status.getLong("Seconds_Behind_Source");
+            if (status.wasNull()) {
+                log.warn("La replicación de {} está detenida.", key);
+                return false;
+            }
+            log.debug("Réplica {} con {} segundos de retraso.", key, lag);
+            return lag <= maxLagSeconds;
+        } catch (Exception err) {
+            log.error("No fue posible consultar el estado de la réplica {}: {}", key, err.getMessage());
+            return false;
+        }
+    }
+}
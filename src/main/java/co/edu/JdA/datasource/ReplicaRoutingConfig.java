@@ -0,0 +1,75 @@
+package co.edu.JdA.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the primary/replica data source.
+ * <p>
+ *     Only active when {@code app.datasource.routing.enabled=true}. It replaces the data source
+ *     auto-configured by Spring Boot with a {@link ReplicaRoutingDataSource} wrapped in a
+ *     {@link LazyConnectionDataSourceProxy}, so that methods annotated with
+ *     {@code @Transactional(readOnly = true)} read from a replica and the rest go to the primary.
+ * </p>
+ * */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(ReplicaRoutingProperties properties) {
+        DataSource primary = buildDataSource(properties.getPrimary(), ReplicaRoutingDataSource.PRIMARY_KEY);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY_KEY, primary);
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            String key = ReplicaRoutingDataSource.REPLICA_KEY_PREFIX + i;
+            targets.put(key, buildDataSource(properties.getReplicas().get(i), key));
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource, ReplicaRoutingProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaRoutingDataSource.getResolvedDataSources().forEach((key, dataSource) -> {
+            if (!ReplicaRoutingDataSource.PRIMARY_KEY.equals(key)) {
+                replicas.put((String) key, dataSource);
+            }
+        });
+        // The first check is left to the scheduler: until then every read goes to the primary.
+        return new ReplicaLagMonitor(replicaRoutingDataSource, replicas, properties.getMaxLagSeconds());
+    }
+
+    private DataSource buildDataSource(ReplicaRoutingProperties.Endpoint endpoint, String poolName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(endpoint.getUrl())
+                .username(endpoint.getUsername())
+                .password(endpoint.getPassword())
+                .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,60 @@
+package co.edu.JdA.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source that sends read-only transactions to a healthy replica and everything else to the primary.
+ * <p>
+ *     The lookup key is resolved when a physical connection is requested, so this data source
+ *     must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy};
+ *     otherwise the connection would be obtained before the transaction is marked as read-only.
+ *     Replicas are picked in round-robin order among those that {@link ReplicaLagMonitor} reports as healthy.
+ * </p>
+ * */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+    public static final String REPLICA_KEY_PREFIX = "replica-";
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || RoutingContext.isPrimaryForced()) {
+            return PRIMARY_KEY;
+        }
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Marks a replica as eligible or not eligible to receive reads.
+     * @param replicaKey The lookup key of the replica.
+     * @param healthy Whether the replica may receive reads.
+     * */
+    public synchronized void setReplicaHealthy(String replicaKey, boolean healthy) {
+        List<String> updated = new ArrayList<>(healthyReplicas);
+        if (healthy && !updated.contains(replicaKey)) {
+            updated.add(replicaKey);
+        } else if (!healthy) {
+            updated.remove(replicaKey);
+        }
+        healthyReplicas = List.copyOf(updated);
+    }
+
+    /**
+     * @return The keys of the replicas currently receiving reads.
+     * */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+}
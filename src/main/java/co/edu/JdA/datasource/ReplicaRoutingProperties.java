@@ -0,0 +1,55 @@
+package co.edu.JdA.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for routing read-only transactions to read replicas.
+ * <p>
+ *     Bound from the {@code app.datasource.routing} prefix. When {@code enabled} is
+ *     {@code false} (the default) the application keeps using the single data source
+ *     configured through {@code spring.datasource.*}.
+ * </p>
+ * */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Whether replica routing is active.
+     * */
+    private boolean enabled = false;
+
+    /**
+     * Connection data of the primary database, which receives every write.
+     * */
+    private Endpoint primary = new Endpoint();
+
+    /**
+     * Connection data of the read replicas.
+     * */
+    private List<Endpoint> replicas = new ArrayList<>();
+
+    /**
+     * Maximum replication lag, in seconds, before a replica stops receiving reads.
+     * */
+    private long maxLagSeconds = 5;
+
+    /**
+     * How long, in seconds, a caller keeps reading from the primary after its own write.
+     * */
+    private long stickinessSeconds = 10;
+
+    /**
+     * Connection data for a single database instance.
+     * */
+    @Data
+    public static class Endpoint {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
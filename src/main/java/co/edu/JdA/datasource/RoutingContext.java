@@ -0,0 +1,37 @@
+package co.edu.JdA.datasource;
+
+/**
+ * Holds the per-thread routing decision that overrides the read-only flag of a transaction.
+ * <p>
+ *     The web layer forces the primary for the duration of a request when the caller
+ *     has written recently, so it always reads its own writes even if the replicas lag behind.
+ * </p>
+ * */
+public final class RoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private RoutingContext() {
+    }
+
+    /**
+     * Forces every connection acquired by the current thread to use the primary.
+     * */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    /**
+     * @return {@code true} if the current thread must use the primary.
+     * */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    /**
+     * Clears the routing decision of the current thread.
+     * */
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
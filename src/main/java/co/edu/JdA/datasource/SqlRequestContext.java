@@ -0,0 +1,110 @@
+package co.edu.JdA.datasource;
+
+/**
+ * Holds the SQL statistics of the HTTP request being served by the current thread.
+ * <p>
+ *     {@link StatementCountingDataSource} adds every executed statement to the current context,
+ *     and the web layer opens it at the start of the request, sets the statement budget of the
+ *     endpoint and reads the totals at the end. Statements executed outside a request (startup,
+ *     scheduled jobs) are not counted.
+ * </p>
+ * */
+public final class SqlRequestContext {
+
+    /**
+     * Budget value meaning that the endpoint has no declared limit.
+     * */
+    public static final int NO_BUDGET = -1;
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+    private int statements;
+    private long databaseNanos;
+    private int budget = NO_BUDGET;
+    private boolean strict;
+
+    private SqlRequestContext(String request) {
+        this.request = request;
+    }
+
+    /**
+     * Opens a new context for the current thread.
+     * @param request Description of the request (method and path), used in the logs.
+     * @return The new context.
+     * */
+    public static SqlRequestContext begin(String request) {
+        SqlRequestContext context = new SqlRequestContext(request);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * @return The context of the current thread, or {@code null} outside a request.
+     * */
+    public static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes the context of the current thread.
+     * */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Adds an executed statement.
+     * @param elapsedNanos Time the statement took in the database.
+     * @return The number of statements executed so far, including this one.
+     * */
+    int record(long elapsedNanos) {
+        statements++;
+        databaseNanos += elapsedNanos;
+        return statements;
+    }
+
+    /**
+     * Declares the maximum number of statements of the request.
+     * @param budget The maximum number of statements.
+     * @param strict {@code true} to fail, before it runs, the statement that would go over the budget.
+     * */
+    public void limitTo(int budget, boolean strict) {
+        this.budget = budget;
+        this.strict = strict;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDatabaseMillis() {
+        return databaseNanos / 1_000_000;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * @return {@code true} if the request has a budget and already executed every statement it allows.
+     * */
+    public boolean isBudgetExhausted() {
+        return budget != NO_BUDGET && statements >= budget;
+    }
+
+    /**
+     * @return {@code true} if the request has a budget and executed more statements than it allows.
+     * */
+    public boolean isOverBudget() {
+        return budget != NO_BUDGET && statements > budget;
+    }
+}
@@ -0,0 +1,137 @@
+package co.edu.JdA.datasource;
+
+import co.edu.JdA.exception.SqlBudgetExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Data source that measures every SQL statement executed through it.
+ * <p>
+ *     Connections and statements are wrapped in JDK proxies that time each {@code execute*} call.
+ *     The time is added to the {@link SqlRequestContext} of the thread, if any, and statements slower
+ *     than the threshold are logged (sampled) with the shape of the SQL: the text with placeholders
+ *     and literals replaced by {@code ?}, so bound values such as emails never reach the log.
+ * </p>
+ * <p>
+ *     When the request runs in strict mode, the statement that would go over its budget fails with
+ *     {@link SqlBudgetExceededException} before it reaches the database, so it never takes effect.
+ * </p>
+ * */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountingDataSource.class);
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SHAPE_LENGTH = 500;
+
+    private final long slowQueryNanos;
+    private final double sampleRate;
+
+    /**
+     * @param target The data source to measure.
+     * @param slowQueryMillis Statements slower than this are logged.
+     * @param sampleRate Fraction (0 to 1) of the slow statements that are logged.
+     * */
+    public StatementCountingDataSource(DataSource target, long slowQueryMillis, double sampleRate) {
+        super(target);
+        this.slowQueryNanos = slowQueryMillis * 1_000_000;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement and prepareCall receive the SQL up front; createStatement does not.
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            checkBudget(sql);
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                recordStatement(sql, System.nanoTime() - start);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private void checkBudget(String sql) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null && context.isStrict() && context.isBudgetExhausted()) {
+            throw new SqlBudgetExceededException(String.format("%s intentó ejecutar la sentencia SQL %d y su presupuesto es %d: %s",
+                    context.getRequest(), context.getStatements() + 1, context.getBudget(), shapeOf(sql)));
+        }
+    }
+
+    // Runs in a finally block: it must not throw, or it would replace the exception of the statement.
+    private void recordStatement(String sql, long elapsedNanos) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.record(elapsedNanos);
+        }
+        if (elapsedNanos >= slowQueryNanos && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.warn("Consulta lenta ({} ms) en {}: {}", elapsedNanos / 1_000_000,
+                    context != null ? context.getRequest() : "segundo plano", shapeOf(sql));
+        }
+    }
+
+    /**
+     * Reduces a statement to its shape: single spaces and every literal replaced by {@code ?}.
+     * */
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "(lote)";
+        }
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException err) {
+            throw err.getCause();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package co.edu.JdA.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source in a {@link StatementCountingDataSource}.
+ * <p>
+ *     Only the bean named {@code dataSource} is wrapped: it is the one used by JPA and
+ *     {@code JdbcTemplate}, both with the default configuration and with replica routing.
+ *     Wrapping the pools behind it too would count each statement twice.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.sql.instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountingPostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final long slowQueryMillis;
+    private final double sampleRate;
+
+    public StatementCountingPostProcessor(@Value("${app.sql.slow-query-ms:200}") long slowQueryMillis,
+                                          @Value("${app.sql.slow-query-sample-rate:1.0}") double sampleRate) {
+        this.slowQueryMillis = slowQueryMillis;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof StatementCountingDataSource)) {
+            return new StatementCountingDataSource(dataSource, slowQueryMillis, sampleRate);
+        }
+        return bean;
+    }
+}
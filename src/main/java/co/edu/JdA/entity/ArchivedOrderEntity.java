@@ -0,0 +1,72 @@
+package co.edu.JdA.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Represents an order that was moved to the archive.
+ * <p>
+ * This class maps the 'orders_archive' table, which receives the monthly partitions of
+ * 'orders' older than the retention window. Archived orders are read-only and keep the
+ * client ID as a plain column, since the client may have been deleted after archiving.
+ * </p>
+ * */
+@Entity
+@Immutable
+@Table(name = "orders_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedOrderEntity {
+
+    /**
+     * The unique identifier of the order, kept from the 'orders' table.
+     * */
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    /**
+     * The order date.
+     * */
+    @Column(name = "order_date", nullable = false)
+    private LocalDate orderDate;
+
+    /**
+     * The order total.
+     * */
+    @Column(name = "total", nullable = false)
+    private Double total;
+
+    /**
+     * Order details in text format.
+     * */
+    @Column(name = "details")
+    private String details;
+
+    /**
+     * The ID of the customer to whom this order belonged.
+     * */
+    @Column(name = "client_id")
+    private String clientId;
+
+    /**
+     * Converts the archived order into a detached {@link OrderEntity}, so callers can treat
+     * it like any other order. The client is a reference that only carries its ID.
+     *
+     * @return A detached {@code OrderEntity} with the archived data.
+     * */
+    public OrderEntity toOrderEntity() {
+        ClientEntity client = new ClientEntity();
+        client.setId(clientId);
+        return new OrderEntity(id, orderDate, total, details, client);
+    }
+}
@@ -1,11 +1,16 @@
 package co.edu.JdA.entity;
 
+import co.edu.JdA.cache.ClientCacheInvalidationListener;
+import co.edu.JdA.cache.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -14,9 +19,16 @@ import java.util.List;
  * This class maps customer information to the 'clients' table in the database.
  * It is the basic for the persistence of customer data.
  * </p>
+ * <p>
+ * Instances are kept in the second-level cache (see {@link HibernateCacheConfig});
+ * {@link ClientCacheInvalidationListener} announces changes to the other instances.
+ * </p>
  * */
 @Entity
 @Table(name = "clients")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CLIENT_REGION)
+@EntityListeners(ClientCacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,6 +62,26 @@ public class ClientEntity {
     @Column(name = "registration_date", nullable = false)
     private LocalDate registrationDate;
 
+    /**
+     * The moment the client was deleted, or {@code null} for an active client.
+     * <p>
+     * Deleted clients are hidden at once and removed, with their orders, in the background.
+     * </p>
+     * */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * The version of the client, incremented by every update.
+     * <p>
+     * Hibernate checks it on update (optimistic locking), and it is exposed as the ETag of the client.
+     * A {@code null} version also tells Spring Data that the client is new, so it is inserted without a select.
+     * </p>
+     * */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * The list of orders belonging to this customer.
      * <p>
@@ -29,6 +29,11 @@ public class OrderEntity {
     /**
      * The unique identifier of the order.
      * Mapped as the primary key of the 'orders' table with a UUID.
+     * <p>
+     * Since the table is partitioned by month, its primary key in the database is {@code (id, order_date)}
+     * (V3__partition_orders.sql) and does not enforce a unique ID on its own: the API generates a new
+     * UUID for each order and the bulk import skips IDs that already exist.
+     * </p>
      * */
     @Id
     @Column(name = "id")
@@ -0,0 +1,72 @@
+package co.edu.JdA.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the idempotency key sent by a caller when creating an order.
+ * <p>
+ * This class maps the 'order_idempotency_keys' table. The key is the primary key, so the
+ * database rejects a second order created with the same key. The client ID and a hash of the request
+ * are stored with it, so the key is only replayed for the request it was first sent with. It implements {@link Persistable}
+ * and always reports itself as new, so saving it issues a plain {@code INSERT} instead of
+ * looking the key up first.
+ * </p>
+ * */
+@Entity
+@Table(name = "order_idempotency_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyEntity implements Persistable<String> {
+
+    /**
+     * The key sent in the {@code Idempotency-Key} header.
+     * */
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    /**
+     * The ID of the order created with this key.
+     * */
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    /**
+     * The ID of the client the key was sent for. {@code null} for keys stored before it was recorded.
+     * */
+    @Column(name = "client_id")
+    private String clientId;
+
+    /**
+     * SHA-256 of the client ID, total and details of the request, in hex.
+     * {@code null} for keys stored before it was recorded.
+     * */
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    /**
+     * When the order was created.
+     * */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package co.edu.JdA.exception;
+
+/**
+ * Custom exception thrown when an idempotency key is reused for a different request.
+ * <p>
+ * This is an unchecked exception. It signals that the key was first sent by another client, or with
+ * another total or details, so the order recorded for it is not the answer to this request. Returning
+ * it would hand the caller someone else's order; the caller must send a new key instead.
+ * </p>
+ * */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code IdempotencyKeyMismatchException} with a detailed message.
+     *
+     * @param message The detail message, with the key that was reused.
+     * */
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package co.edu.JdA.exception;
+
+/**
+ * Custom exception thrown when a request executes more SQL statements than its endpoint declares.
+ * <p>
+ * This is an unchecked exception, and it is only thrown when the statement budget is enforced in
+ * strict mode ({@code app.sql.budget.strict=true}), typically while running tests, so that an N+1
+ * query regression fails the build instead of reaching production.
+ * </p>
+ * */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code SqlBudgetExceededException} with a detailed message.
+     *
+     * @param message The detail message, with the request, the budget and the statements executed.
+     * */
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package co.edu.JdA.exception;
+
+/**
+ * Custom exception thrown when a client is updated from a version that is no longer the current one.
+ * <p>
+ * This is an unchecked exception. It signals that someone else modified the client after the caller
+ * read it (the {@code If-Match} header does not match the current version), so applying the update
+ * would silently overwrite their changes. The caller must read the client again and retry.
+ * </p>
+ * */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code VersionConflictException} with a detailed message.
+     *
+     * @param message The detail message, with the expected and the current version.
+     * */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.JdA.repository;
+
+import co.edu.JdA.entity.ArchivedOrderEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for reading the archived orders ({@link ArchivedOrderEntity}).
+ * <p>
+ *     Archived orders are written only by the archival job, directly from the partitions
+ *     of the 'orders' table, so this repository is used for lookups and for the purge of
+ *     deleted clients only.
+ * </p>
+ * */
+public interface ArchivedOrderRepository extends Repository<ArchivedOrderEntity, String> {
+
+    /**
+     * Finds an archived order by its ID.
+     * @param id The ID of the order.
+     * @return An {@link Optional} containing the archived order, or empty if not found.
+     * */
+    Optional<ArchivedOrderEntity> findById(String id);
+
+    /**
+     * Deletes up to {@code limit} archived orders of a client.
+     * <p>
+     *     Runs in its own short transaction, like {@link OrderRepository#deleteChunkByClientId}.
+     * </p>
+     * @param clientId The ID of the client.
+     * @param limit The maximum number of orders to delete.
+     * @return The number of orders deleted.
+     * */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM orders_archive WHERE client_id = :clientId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByClientId(@Param("clientId") String clientId, @Param("limit") int limit);
+}
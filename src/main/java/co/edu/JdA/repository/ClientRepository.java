@@ -1,36 +1,100 @@
 package co.edu.JdA.repository;
 
+import co.edu.JdA.cache.HibernateCacheConfig;
 import co.edu.JdA.entity.ClientEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for managing persistence operations for the {@link ClientEntity}.
  * <p>
- *     This interface extends {@link JpaRepository}, with provides a complete set of
- *     CRUD (Create, Read, Update, Delete) methods out of the box. Spring Data JPA
- *     automatically generates the implement at runtime.
+ *     This interface extends the {@link Repository} marker and declares only the operations
+ *     the application uses. With the default configuration Spring Data JPA generates the
+ *     implementation at runtime; with the {@code memory} profile the implementation is
+ *     {@link co.edu.JdA.repository.memory.InMemoryClientRepository}.
  * </p>
  * <p>
  *     The generic parameters are:
- *     <u>
+ *     <ul>
  *         <li>{@code ClientEntity}: The entity type this repository is responsible for.</li>
  *         <li>{@code String}: The data type of the entity's primary key (ID).</li>
- *     </u>
+ *     </ul>
  * </p>
  * */
-@Repository
-public interface ClientRepository extends JpaRepository<ClientEntity, String> {
+public interface ClientRepository extends Repository<ClientEntity, String> {
+
+    /**
+     * Finds a client by its ID.
+     * @param id The ID of the client.
+     * @return An {@link Optional} containing the found client, or empty if not found.
+     * */
+    Optional<ClientEntity> findById(String id);
+
+    /**
+     * Finds a client by its ID, unless it has been deleted.
+     * @param id The ID of the client.
+     * @return An {@link Optional} containing the active client, or empty if not found or deleted.
+     * */
+    Optional<ClientEntity> findByIdAndDeletedAtIsNull(String id);
+
+    /**
+     * Checks whether a client with the given ID exists.
+     * @param id The ID of the client.
+     * @return {@code true} if the client exists.
+     * */
+    boolean existsById(String id);
 
     /**
      * Finds a client by their email address.
      * <p>
      *     Spring Data JPA automatically generates the query for this method.
+     *     Its results are kept in the query cache, in the region
+     *     {@link HibernateCacheConfig#CLIENT_EMAIL_QUERY_REGION}.
      * </p>
      * @param email The email address of the client.
      * @return An {@link Optional} containing the found client, or empty if not found.
      * */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.CLIENT_EMAIL_QUERY_REGION)
+    })
     Optional<ClientEntity> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Lists all clients.
+     * @return A list of all clients.
+     * */
+    List<ClientEntity> findAll();
+
+    /**
+     * Lists the clients that have not been deleted.
+     * @return A list of the active clients.
+     * */
+    List<ClientEntity> findByDeletedAtIsNull();
+
+    /**
+     * Lists the IDs of the deleted clients that are still waiting to be purged.
+     * @return The IDs, oldest deletion first.
+     * */
+    @Query("SELECT c.id FROM ClientEntity c WHERE c.deletedAt IS NOT NULL ORDER BY c.deletedAt")
+    List<String> findDeletedIds();
+
+    /**
+     * Saves a new client or updates an existing one.
+     * @param client The client to save.
+     * @return The saved client.
+     * */
+    ClientEntity save(ClientEntity client);
+
+    /**
+     * Deletes a client, and its orders, by its ID.
+     * @param id The ID of the client.
+     * */
+    void deleteById(String id);
+}
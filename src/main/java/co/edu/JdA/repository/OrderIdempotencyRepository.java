@@ -0,0 +1,40 @@
+package co.edu.JdA.repository;
+
+import co.edu.JdA.entity.OrderIdempotencyEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing persistence operations for the {@link OrderIdempotencyEntity}.
+ * */
+public interface OrderIdempotencyRepository extends Repository<OrderIdempotencyEntity, String> {
+
+    /**
+     * Finds the order recorded for an idempotency key.
+     * @param idempotencyKey The key.
+     * @return An {@link Optional} containing the key record, or empty if the key is unknown.
+     * */
+    Optional<OrderIdempotencyEntity> findById(String idempotencyKey);
+
+    /**
+     * Inserts a key and flushes it right away, so a duplicate key fails immediately.
+     * @param key The key to insert.
+     * @return The inserted key.
+     * @throws org.springframework.dao.DataIntegrityViolationException if the key already exists.
+     * */
+    OrderIdempotencyEntity saveAndFlush(OrderIdempotencyEntity key);
+
+    /**
+     * Deletes the keys created before the given instant with a single statement.
+     * @param createdBefore The oldest creation time to keep.
+     * @return The number of deleted keys.
+     * */
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyEntity k WHERE k.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
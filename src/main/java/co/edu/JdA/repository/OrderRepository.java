@@ -1,16 +1,25 @@
 package co.edu.JdA.repository;
 
+import co.edu.JdA.DTO.OrderSummaryDTO;
 import co.edu.JdA.entity.OrderEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing persistence operations for the {@link OrderEntity}.
  * <p>
- *     This interface extends {@link JpaRepository}, providing standard methods for
- *     interface with the database. The implementation is automatically handled by Spring at runtime.
+ *     This interface extends the {@link Repository} marker and declares only the operations
+ *     the application uses. With the default configuration the implementation is automatically
+ *     handled by Spring Data JPA at runtime; with the {@code memory} profile the implementation is
+ *     {@link co.edu.JdA.repository.memory.InMemoryOrderRepository}.
  * </p>
  * <p>
  *     The generic parameters are:
@@ -20,8 +29,34 @@ import java.util.List;
  *     </ul>
  * </p>
  * */
-@Repository
-public interface OrderRepository extends JpaRepository<OrderEntity, String> {
+public interface OrderRepository extends Repository<OrderEntity, String> {
+
+    /**
+     * Finds an order by its ID.
+     * @param id The ID of the order.
+     * @return An {@link Optional} containing the found order, or empty if not found.
+     * */
+    Optional<OrderEntity> findById(String id);
+
+    /**
+     * Lists the orders of every client that has not been deleted.
+     * @return A list of the orders of active clients.
+     * */
+    @Query("SELECT o FROM OrderEntity o JOIN o.client c WHERE c.deletedAt IS NULL")
+    List<OrderEntity> findAllOfActiveClients();
+
+    /**
+     * Saves a new order or updates an existing one.
+     * @param order The order to save.
+     * @return The saved order.
+     * */
+    OrderEntity save(OrderEntity order);
+
+    /**
+     * Deletes an order by its ID.
+     * @param id The ID of the order.
+     * */
+    void deleteById(String id);
 
     /**
      * Finds all orders belonging to a specific client.
@@ -33,4 +68,61 @@ public interface OrderRepository extends JpaRepository<OrderEntity, String> {
      * @return A list of orders belonging to the specified client.
      * */
     List<OrderEntity> findByClientId(String clientId);
-}
\ No newline at end of file
+
+    /**
+     * Finds the recent orders belonging to a specific client, fetching the client in the same query.
+     * <p>
+     *     The {@code JOIN FETCH} initializes the lazy {@code client} association,
+     *     so mapping the orders never triggers an extra select per row. The bound on
+     *     {@code order_date} lets MySQL prune the monthly partitions older than {@code since}.
+     * </p>
+     * @param clientId The ID of the client.
+     * @param since The oldest order date to return.
+     * @return A list of orders with their client already loaded.
+     * */
+    @Query("SELECT o FROM OrderEntity o JOIN FETCH o.client c WHERE c.id = :clientId AND o.orderDate >= :since")
+    List<OrderEntity> findByClientIdFetchClient(@Param("clientId") String clientId, @Param("since") LocalDate since);
+
+    /**
+     * Lists the recent orders of a client together with the client's name and email.
+     * <p>
+     *     The query starts from the client and left-joins its orders, so it returns
+     *     one row with {@code null} order columns when the client has no orders since {@code since}, and
+     *     no rows at all when the client does not exist or was deleted. Everything is resolved in a
+     *     single SQL statement. The date bound is part of the join condition, so it does not drop the
+     *     client row, and it lets MySQL prune the monthly partitions older than {@code since}.
+     * </p>
+     * @param clientId The ID of the client.
+     * @param since The oldest order date to return.
+     * @return The projected rows, most recent orders first.
+     * */
+    @Query("SELECT new co.edu.JdA.DTO.OrderSummaryDTO(c.id, c.name, c.email, o.id, o.orderDate, o.total, o.details) " +
+            "FROM ClientEntity c LEFT JOIN c.orders o ON o.orderDate >= :since " +
+            "WHERE c.id = :clientId AND c.deletedAt IS NULL ORDER BY o.orderDate DESC")
+    List<OrderSummaryDTO> findOrderSummariesByClientId(@Param("clientId") String clientId, @Param("since") LocalDate since);
+
+    /**
+     * Lists the active clients with the most recent orders, most recent first.
+     * @param since The oldest order date to consider.
+     * @param pageable The maximum number of clients ({@code PageRequest.of(0, n)}).
+     * @return The IDs of the clients.
+     * */
+    @Query("SELECT c.id FROM OrderEntity o JOIN o.client c WHERE o.orderDate >= :since AND c.deletedAt IS NULL " +
+            "GROUP BY c.id ORDER BY MAX(o.orderDate) DESC")
+    List<String> findRecentlyActiveClientIds(@Param("since") LocalDate since, Pageable pageable);
+
+    /**
+     * Deletes up to {@code limit} orders of a client.
+     * <p>
+     *     Runs in its own short transaction so the purge of a large client never holds
+     *     many row locks at once.
+     * </p>
+     * @param clientId The ID of the client.
+     * @param limit The maximum number of orders to delete.
+     * @return The number of orders deleted.
+     * */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM orders WHERE client_id = :clientId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByClientId(@Param("clientId") String clientId, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.entity.ArchivedOrderEntity;
+import co.edu.JdA.repository.ArchivedOrderRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * In-memory implementation of {@link ArchivedOrderRepository} for the {@code memory} profile.
+ * <p>
+ *     The in-memory backend keeps every order in the same map and has no archive,
+ *     so lookups here never find anything and there is nothing to delete.
+ * </p>
+ * */
+@Repository
+@Profile("memory")
+public class InMemoryArchivedOrderRepository implements ArchivedOrderRepository {
+
+    @Override
+    public Optional<ArchivedOrderEntity> findById(String id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public int deleteChunkByClientId(String clientId, int limit) {
+        return 0;
+    }
+}
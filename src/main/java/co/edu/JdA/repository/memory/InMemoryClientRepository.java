@@ -0,0 +1,131 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.repository.ClientRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory implementation of {@link ClientRepository} for the {@code memory} profile.
+ * <p>
+ *     Lookups by ID and by email are single map reads. The email index enforces the same
+ *     uniqueness as the database, saving checks and increments the version like
+ *     JPA optimistic locking, and deleting a client also deletes its orders,
+ *     like {@code CascadeType.ALL} does with JPA.
+ * </p>
+ * */
+@Repository
+@Profile("memory")
+public class InMemoryClientRepository implements ClientRepository {
+
+    private final InMemoryStore store;
+
+    @Autowired
+    public InMemoryClientRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<ClientEntity> findById(String id) {
+        ClientEntity client = store.clients.get(id);
+        return client != null ? Optional.of(InMemoryStore.copyOf(client)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<ClientEntity> findByIdAndDeletedAtIsNull(String id) {
+        return findById(id).filter(client -> client.getDeletedAt() == null);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return store.clients.containsKey(id);
+    }
+
+    @Override
+    public Optional<ClientEntity> findByEmail(String email) {
+        String id = store.clientIdsByEmail.get(email);
+        return id != null ? findById(id) : Optional.empty();
+    }
+
+    @Override
+    public List<ClientEntity> findAll() {
+        return store.clients.values().stream().map(InMemoryStore::copyOf).toList();
+    }
+
+    @Override
+    public List<ClientEntity> findByDeletedAtIsNull() {
+        return store.clients.values().stream()
+                .filter(client -> client.getDeletedAt() == null)
+                .map(InMemoryStore::copyOf)
+                .toList();
+    }
+
+    @Override
+    public List<String> findDeletedIds() {
+        return store.clients.values().stream()
+                .filter(client -> client.getDeletedAt() != null)
+                .sorted(Comparator.comparing(ClientEntity::getDeletedAt))
+                .map(ClientEntity::getId)
+                .toList();
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        ReentrantLock lock = store.lockFor(client.getId());
+        lock.lock();
+        try {
+            ClientEntity previous = store.clients.get(client.getId());
+            Long previousVersion = previous != null ? previous.getVersion() : null;
+            if (previous != null && client.getVersion() != null && !client.getVersion().equals(previousVersion)) {
+                throw new ObjectOptimisticLockingFailureException(ClientEntity.class, client.getId());
+            }
+            String previousEmail = previous != null ? previous.getEmail() : null;
+            if (!client.getEmail().equals(previousEmail)) {
+                String owner = store.clientIdsByEmail.putIfAbsent(client.getEmail(), client.getId());
+                if (owner != null && !owner.equals(client.getId())) {
+                    throw new DataIntegrityViolationException(
+                            String.format("El email %s ya pertenece a otro cliente.", client.getEmail()));
+                }
+                if (previousEmail != null) {
+                    store.clientIdsByEmail.remove(previousEmail, client.getId());
+                }
+            }
+            ClientEntity stored = InMemoryStore.copyOf(client);
+            stored.setVersion(previousVersion != null ? previousVersion + 1 : 0L);
+            store.clients.put(client.getId(), stored);
+            store.modified();
+            return InMemoryStore.copyOf(stored);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        ReentrantLock lock = store.lockFor(id);
+        lock.lock();
+        try {
+            ClientEntity removed = store.clients.remove(id);
+            if (removed == null) {
+                return;
+            }
+            store.clientIdsByEmail.remove(removed.getEmail(), id);
+            Set<String> orderIds = store.orderIdsByClient.remove(id);
+            if (orderIds != null) {
+                orderIds.forEach(store.orders::remove);
+            }
+            store.modified();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.entity.OrderIdempotencyEntity;
+import co.edu.JdA.repository.OrderIdempotencyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * In-memory implementation of {@link OrderIdempotencyRepository} for the {@code memory} profile.
+ * <p>
+ *     Keys are inserted with {@code putIfAbsent}, so a duplicate key fails
+ *     just like the primary key of the database table.
+ * </p>
+ * */
+@Repository
+@Profile("memory")
+public class InMemoryOrderIdempotencyRepository implements OrderIdempotencyRepository {
+
+    private final InMemoryStore store;
+
+    @Autowired
+    public InMemoryOrderIdempotencyRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<OrderIdempotencyEntity> findById(String idempotencyKey) {
+        return Optional.ofNullable(store.idempotencyKeys.get(idempotencyKey));
+    }
+
+    @Override
+    public OrderIdempotencyEntity saveAndFlush(OrderIdempotencyEntity key) {
+        if (store.idempotencyKeys.putIfAbsent(key.getIdempotencyKey(), key) != null) {
+            throw new DataIntegrityViolationException(
+                    String.format("La clave de idempotencia %s ya existe.", key.getIdempotencyKey()));
+        }
+        store.modified();
+        return key;
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+        int deleted = 0;
+        for (OrderIdempotencyEntity key : store.idempotencyKeys.values()) {
+            if (key.getCreatedAt().isBefore(createdBefore) && store.idempotencyKeys.remove(key.getIdempotencyKey(), key)) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            store.modified();
+        }
+        return deleted;
+    }
+}
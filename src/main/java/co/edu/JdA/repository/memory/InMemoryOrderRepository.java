@@ -0,0 +1,169 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.DTO.OrderSummaryDTO;
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory implementation of {@link OrderRepository} for the {@code memory} profile.
+ * <p>
+ *     Orders of a client are resolved through the client-to-orders index,
+ *     so listing them never scans the rest of the orders.
+ * </p>
+ * */
+@Repository
+@Profile("memory")
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private final InMemoryStore store;
+
+    @Autowired
+    public InMemoryOrderRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<OrderEntity> findById(String id) {
+        OrderEntity order = store.orders.get(id);
+        return order != null ? Optional.of(store.copyOf(order)) : Optional.empty();
+    }
+
+    @Override
+    public List<OrderEntity> findAllOfActiveClients() {
+        return store.orders.values().stream()
+                .filter(order -> {
+                    ClientEntity client = store.clients.get(order.getClient().getId());
+                    return client != null && client.getDeletedAt() == null;
+                })
+                .map(store::copyOf)
+                .toList();
+    }
+
+    @Override
+    public List<OrderEntity> findByClientId(String clientId) {
+        Set<String> orderIds = store.orderIdsByClient.getOrDefault(clientId, Set.of());
+        return orderIds.stream()
+                .map(store.orders::get)
+                .filter(Objects::nonNull)
+                .map(store::copyOf)
+                .toList();
+    }
+
+    @Override
+    public List<OrderEntity> findByClientIdFetchClient(String clientId, LocalDate since) {
+        return findByClientId(clientId).stream()
+                .filter(order -> !order.getOrderDate().isBefore(since))
+                .toList();
+    }
+
+    @Override
+    public List<OrderSummaryDTO> findOrderSummariesByClientId(String clientId, LocalDate since) {
+        ClientEntity client = store.clients.get(clientId);
+        if (client == null || client.getDeletedAt() != null) {
+            return List.of();
+        }
+        List<OrderSummaryDTO> summaries = findByClientIdFetchClient(clientId, since).stream()
+                .sorted(Comparator.comparing(OrderEntity::getOrderDate).reversed())
+                .map(order -> new OrderSummaryDTO(client.getId(), client.getName(), client.getEmail(),
+                        order.getId(), order.getOrderDate(), order.getTotal(), order.getDetails()))
+                .toList();
+        // Same shape as the LEFT JOIN: a client without orders yields one row without order data.
+        return summaries.isEmpty()
+                ? List.of(new OrderSummaryDTO(client.getId(), client.getName(), client.getEmail(), null, null, null, null))
+                : summaries;
+    }
+
+    @Override
+    public OrderEntity save(OrderEntity order) {
+        String clientId = order.getClient().getId();
+        ReentrantLock lock = store.lockFor(clientId);
+        lock.lock();
+        try {
+            ClientEntity clientReference = new ClientEntity();
+            clientReference.setId(clientId);
+            OrderEntity stored = new OrderEntity(order.getId(), order.getOrderDate(), order.getTotal(), order.getDetails(), clientReference);
+            store.orders.put(order.getId(), stored);
+            store.orderIdsByClient.computeIfAbsent(clientId, id -> ConcurrentHashMap.newKeySet()).add(order.getId());
+            store.modified();
+            return store.copyOf(stored);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        OrderEntity order = store.orders.get(id);
+        if (order == null) {
+            return;
+        }
+        String clientId = order.getClient().getId();
+        ReentrantLock lock = store.lockFor(clientId);
+        lock.lock();
+        try {
+            store.orders.remove(id);
+            Set<String> orderIds = store.orderIdsByClient.get(clientId);
+            if (orderIds != null) {
+                orderIds.remove(id);
+            }
+            store.modified();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<String> findRecentlyActiveClientIds(LocalDate since, Pageable pageable) {
+        Map<String, LocalDate> lastOrderByClient = new HashMap<>();
+        for (OrderEntity order : store.orders.values()) {
+            if (!order.getOrderDate().isBefore(since)) {
+                lastOrderByClient.merge(order.getClient().getId(), order.getOrderDate(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        return lastOrderByClient.entrySet().stream()
+                .filter(entry -> {
+                    ClientEntity client = store.clients.get(entry.getKey());
+                    return client != null && client.getDeletedAt() == null;
+                })
+                .sorted(Map.Entry.<String, LocalDate>comparingByValue().reversed())
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public int deleteChunkByClientId(String clientId, int limit) {
+        ReentrantLock lock = store.lockFor(clientId);
+        lock.lock();
+        try {
+            Set<String> orderIds = store.orderIdsByClient.getOrDefault(clientId, Set.of());
+            List<String> chunk = orderIds.stream().limit(limit).toList();
+            chunk.forEach(id -> {
+                store.orders.remove(id);
+                orderIds.remove(id);
+            });
+            if (!chunk.isEmpty()) {
+                store.modified();
+            }
+            return chunk.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
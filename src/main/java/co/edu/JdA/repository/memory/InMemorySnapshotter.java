@@ -0,0 +1,184 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.entity.OrderIdempotencyEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists the {@link InMemoryStore} to a local file.
+ * <p>
+ *     Every interval, if the data changed, a full snapshot is written as a single JSON line to a
+ *     temporary file, synced to disk and atomically moved over the previous snapshot, so the file
+ *     always holds one complete snapshot and never grows beyond the size of the store. On startup
+ *     that snapshot is restored.
+ * </p>
+ * <p>
+ *     Clients and orders are captured while holding all the locks of the store, so a snapshot never
+ *     contains half of a change to a client and its orders. Idempotency keys are not guarded by those
+ *     locks and are captured afterwards: a snapshot may hold a key whose order was saved just after it.
+ * </p>
+ * */
+@Component
+@Profile("memory")
+public class InMemorySnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySnapshotter.class);
+    private final InMemoryStore store;
+    private final ObjectMapper objectMapper;
+    private final Path snapshotFile;
+    private long lastSnapshotModifications = -1;
+
+    @Autowired
+    public InMemorySnapshotter(InMemoryStore store, ObjectMapper objectMapper,
+                               @Value("${app.memory.snapshot-file:data/memory-snapshot.jsonl}") String snapshotFile) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.snapshotFile = Path.of(snapshotFile);
+    }
+
+    /**
+     * Restores the snapshot, if any.
+     * */
+    @PostConstruct
+    public void restore() throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            log.info("No existe el archivo de instantáneas {}, se inicia sin datos.", snapshotFile);
+            return;
+        }
+        Snapshot snapshot;
+        try {
+            snapshot = objectMapper.readValue(Files.readString(snapshotFile, StandardCharsets.UTF_8), Snapshot.class);
+        } catch (IOException err) {
+            log.warn("El archivo {} no contiene una instantánea válida: {}", snapshotFile, err.getMessage());
+            return;
+        }
+        load(snapshot);
+        lastSnapshotModifications = store.modifications();
+        log.info("Instantánea del {} restaurada: {} clientes y {} pedidos.",
+                snapshot.takenAt(), snapshot.clients().size(), snapshot.orders().size());
+    }
+
+    /**
+     * Replaces the snapshot file with the current content of the store if it changed since the last one.
+     * */
+    @Scheduled(fixedDelayString = "${app.memory.snapshot-interval-ms:30000}")
+    @PreDestroy
+    public synchronized void snapshot() {
+        long modifications = store.modifications();
+        if (modifications == lastSnapshotModifications) {
+            return;
+        }
+        try {
+            replace(objectMapper.writeValueAsBytes(capture()));
+            lastSnapshotModifications = modifications;
+            log.debug("Instantánea guardada en {}.", snapshotFile);
+        } catch (IOException err) {
+            log.error("Error al guardar la instantánea en {}: {}", snapshotFile, err.getMessage());
+        }
+    }
+
+    private Snapshot capture() {
+        // Stored entities are never modified in place, so copying the references under the locks is enough.
+        List<ClientEntity> storedClients;
+        List<OrderEntity> storedOrders;
+        store.lockAll();
+        try {
+            storedClients = new ArrayList<>(store.clients.values());
+            storedOrders = new ArrayList<>(store.orders.values());
+        } finally {
+            store.unlockAll();
+        }
+        List<ClientRecord> clients = storedClients.stream()
+                .map(client -> new ClientRecord(client.getId(), client.getName(), client.getEmail(), client.getRegistrationDate(), client.getDeletedAt(), client.getVersion()))
+                .toList();
+        List<OrderRecord> orders = storedOrders.stream()
+                .map(order -> new OrderRecord(order.getId(), order.getOrderDate(), order.getTotal(), order.getDetails(), order.getClient().getId()))
+                .toList();
+        List<KeyRecord> keys = store.idempotencyKeys.values().stream()
+                .map(key -> new KeyRecord(key.getIdempotencyKey(), key.getOrderId(), key.getCreatedAt(), key.getClientId(), key.getRequestHash()))
+                .toList();
+        return new Snapshot(LocalDateTime.now(), clients, orders, keys);
+    }
+
+    private void load(Snapshot snapshot) {
+        store.clear();
+        for (ClientRecord record : snapshot.clients()) {
+            ClientEntity client = new ClientEntity();
+            client.setId(record.id());
+            client.setName(record.name());
+            client.setEmail(record.email());
+            client.setRegistrationDate(record.registrationDate());
+            client.setDeletedAt(record.deletedAt());
+            client.setVersion(record.version() != null ? record.version() : 0L);
+            store.clients.put(client.getId(), client);
+            store.clientIdsByEmail.put(client.getEmail(), client.getId());
+        }
+        for (OrderRecord record : snapshot.orders()) {
+            ClientEntity clientReference = new ClientEntity();
+            clientReference.setId(record.clientId());
+            store.orders.put(record.id(), new OrderEntity(record.id(), record.orderDate(), record.total(), record.details(), clientReference));
+            store.orderIdsByClient.computeIfAbsent(record.clientId(), id -> ConcurrentHashMap.newKeySet()).add(record.id());
+        }
+        for (KeyRecord record : snapshot.idempotencyKeys()) {
+            store.idempotencyKeys.put(record.idempotencyKey(), new OrderIdempotencyEntity(
+                    record.idempotencyKey(), record.orderId(), record.clientId(), record.requestHash(), record.createdAt()));
+        }
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to the snapshot file and moves it over the old one,
+     * so a crash leaves either the previous snapshot or the new one, never a mix.
+     * */
+    private void replace(byte[] snapshot) throws IOException {
+        if (snapshotFile.getParent() != null) {
+            Files.createDirectories(snapshotFile.getParent());
+        }
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(snapshot));
+            channel.write(ByteBuffer.wrap(System.lineSeparator().getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    record Snapshot(LocalDateTime takenAt, List<ClientRecord> clients, List<OrderRecord> orders,
+                    List<KeyRecord> idempotencyKeys) {
+    }
+
+    record ClientRecord(String id, String name, String email, LocalDate registrationDate, LocalDateTime deletedAt,
+                        Long version) {
+    }
+
+    record OrderRecord(String id, LocalDate orderDate, Double total, String details, String clientId) {
+    }
+
+    record KeyRecord(String idempotencyKey, String orderId, LocalDateTime createdAt, String clientId,
+                     String requestHash) {
+    }
+}
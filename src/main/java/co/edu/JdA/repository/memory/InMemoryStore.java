@@ -0,0 +1,127 @@
+package co.edu.JdA.repository.memory;
+
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.entity.OrderIdempotencyEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shared storage of the in-memory repositories used by the {@code memory} profile.
+ * <p>
+ *     Data lives in concurrent maps, with a secondary index from email to client and another from
+ *     client to the IDs of its orders. Every change that touches a client and its indexes is made
+ *     while holding one of a fixed set of locks, chosen by the client ID, so writes to different
+ *     clients do not contend while the indexes of each client stay consistent.
+ * </p>
+ * <p>
+ *     The maps store private copies of the entities, so callers can never modify stored data
+ *     without calling {@code save}.
+ * </p>
+ * */
+@Component
+@Profile("memory")
+public class InMemoryStore {
+
+    private static final int STRIPES = 64;
+
+    final Map<String, ClientEntity> clients = new ConcurrentHashMap<>();
+    final Map<String, String> clientIdsByEmail = new ConcurrentHashMap<>();
+    final Map<String, OrderEntity> orders = new ConcurrentHashMap<>();
+    final Map<String, Set<String>> orderIdsByClient = new ConcurrentHashMap<>();
+    final Map<String, OrderIdempotencyEntity> idempotencyKeys = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final AtomicLong modifications = new AtomicLong();
+
+    public InMemoryStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param clientId The client ID.
+     * @return The lock that guards the client, its email entry and its orders.
+     * */
+    ReentrantLock lockFor(String clientId) {
+        return stripes[Math.floorMod(clientId == null ? 0 : clientId.hashCode(), STRIPES)];
+    }
+
+    /**
+     * Takes every lock, always in the same order, so no client can change until {@link #unlockAll()}.
+     * */
+    void lockAll() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    /**
+     * Releases the locks taken by {@link #lockAll()}.
+     * */
+    void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    /**
+     * Records that the stored data changed, so the next snapshot is written.
+     * */
+    void modified() {
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * @return A counter that increases with every change.
+     * */
+    long modifications() {
+        return modifications.get();
+    }
+
+    /**
+     * Removes all the stored data.
+     * */
+    void clear() {
+        clients.clear();
+        clientIdsByEmail.clear();
+        orders.clear();
+        orderIdsByClient.clear();
+        idempotencyKeys.clear();
+        modified();
+    }
+
+    static ClientEntity copyOf(ClientEntity client) {
+        ClientEntity copy = new ClientEntity();
+        copy.setId(client.getId());
+        copy.setName(client.getName());
+        copy.setEmail(client.getEmail());
+        copy.setRegistrationDate(client.getRegistrationDate());
+        copy.setDeletedAt(client.getDeletedAt());
+        copy.setVersion(client.getVersion());
+        return copy;
+    }
+
+    /**
+     * Copies an order, attaching a copy of its current client or a reference that only carries the ID.
+     * */
+    OrderEntity copyOf(OrderEntity order) {
+        String clientId = order.getClient() != null ? order.getClient().getId() : null;
+        ClientEntity client = clientId != null ? clients.get(clientId) : null;
+        ClientEntity clientCopy;
+        if (client != null) {
+            clientCopy = copyOf(client);
+        } else {
+            clientCopy = new ClientEntity();
+            clientCopy.setId(clientId);
+        }
+        return new OrderEntity(order.getId(), order.getOrderDate(), order.getTotal(), order.getDetails(), clientCopy);
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.JdA.service;
+
+import co.edu.JdA.repository.ArchivedOrderRepository;
+import co.edu.JdA.repository.ClientRepository;
+import co.edu.JdA.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Service that removes the clients marked as deleted, together with their orders and archived orders.
+ * <p>
+ *     Orders are deleted in chunks of {@code app.clients.purge.chunk-size} rows, each one in its own
+ *     short transaction, with a pause of {@code app.clients.purge.pause-ms} between chunks. This keeps
+ *     the row locks of each transaction few and short-lived, so order inserts running at the same
+ *     time are not stalled. The archived orders go next, the same way: after the live ones, so an order
+ *     copied to the archive while the purge runs is still removed. Once the client has no orders left,
+ *     the client row is removed.
+ * </p>
+ * <p>
+ *     Progress is the data itself: an interrupted purge simply continues on the next run.
+ * </p>
+ * */
+@Service
+@ConditionalOnProperty(prefix = "app.clients.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClientPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientPurgeService.class);
+
+    private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    @Autowired
+    public ClientPurgeService(ClientRepository clientRepository,
+                              OrderRepository orderRepository,
+                              ArchivedOrderRepository archivedOrderRepository,
+                              @Value("${app.clients.purge.chunk-size:500}") int chunkSize,
+                              @Value("${app.clients.purge.pause-ms:100}") long pauseMillis) {
+        this.clientRepository = clientRepository;
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * Purges every client waiting to be removed.
+     * */
+    @Scheduled(fixedDelayString = "${app.clients.purge.interval-ms:60000}")
+    public void purgeDeletedClients() {
+        List<String> clientIds = clientRepository.findDeletedIds();
+        for (String clientId : clientIds) {
+            try {
+                purgeClient(clientId);
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                log.warn("Purga de clientes interrumpida en el cliente {}.", clientId);
+                return;
+            } catch (Exception err) {
+                log.error("Error al purgar el cliente {}: {}", clientId, err.getMessage());
+            }
+        }
+    }
+
+    private void purgeClient(String clientId) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        long deletedOrders = deleteInChunks(limit -> orderRepository.deleteChunkByClientId(clientId, limit));
+        long deletedArchived = deleteInChunks(limit -> archivedOrderRepository.deleteChunkByClientId(clientId, limit));
+        clientRepository.deleteById(clientId);
+        log.info("Cliente {} purgado con {} pedidos y {} pedidos archivados en {} ms.",
+                clientId, deletedOrders, deletedArchived, System.currentTimeMillis() - start);
+    }
+
+    private long deleteInChunks(IntUnaryOperator deleteChunk) throws InterruptedException {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk.applyAsInt(chunkSize);
+            total += deleted;
+            if (deleted == chunkSize && pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,204 @@
+package co.edu.JdA.service;
+
+import co.edu.JdA.DTO.ClientResponseDTO;
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.repository.ClientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over the name and email of the clients.
+ * <p>
+ *     Names and emails are split into lowercase tokens without accents. Tokens are kept in a sorted map,
+ *     so every token starting with a prefix is found with a range scan instead of a full scan, and
+ *     fuzzy matches (up to one or two typos, depending on the length) are only compared against the
+ *     tokens that share the first letter. Each match adds to the score of the client: exact token 3,
+ *     prefix 2, fuzzy 1; the top-K clients are returned.
+ * </p>
+ * <p>
+ *     The index is built when the application starts and kept in sync by {@link ClientService}
+ *     on every register, update and delete.
+ * </p>
+ * */
+@Component
+public class ClientSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientSearchIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+
+    private final ClientRepository clientRepository;
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<String>> postings = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    public ClientSearchIndex(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Builds the index from every active client stored in the repository.
+     * <p>
+     *     The clients are read while holding the monitor, so an {@link #upsert} or {@link #remove} of a
+     *     change committed after the read waits and is applied on top of the rebuilt index instead of
+     *     being wiped by it.
+     * </p>
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<ClientEntity> clients;
+        synchronized (this) {
+            clients = clientRepository.findByDeletedAtIsNull();
+            documents.clear();
+            postings.clear();
+            clients.forEach(this::upsert);
+        }
+        log.info("Índice de búsqueda de clientes construido con {} clientes en {} ms.", clients.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Adds a client to the index, or replaces its previous entry.
+     * @param client The client to index.
+     * */
+    public synchronized void upsert(ClientEntity client) {
+        remove(client.getId());
+        Set<String> tokens = new HashSet<>(tokenize(client.getName()));
+        tokens.addAll(tokenize(client.getEmail()));
+        String email = normalize(client.getEmail());
+        if (!email.isEmpty()) {
+            tokens.add(email);
+        }
+        documents.put(client.getId(), new Document(ClientResponseDTO.fromEntity(client), tokens));
+        tokens.forEach(token -> postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(client.getId()));
+    }
+
+    /**
+     * Removes a client from the index.
+     * @param clientId The ID of the client.
+     * */
+    public synchronized void remove(String clientId) {
+        Document previous = documents.remove(clientId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            Set<String> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(clientId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches clients by name or email with prefix and fuzzy matching.
+     * @param query The text to search for.
+     * @param limit The maximum number of results.
+     * @return The best matching clients, best first.
+     * */
+    public List<ClientResponseDTO> search(String query, int limit) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (String queryToken : new LinkedHashSet<>(tokenize(query))) {
+            Map<String, Integer> tokenScores = new HashMap<>();
+            collect(tokenScores, postings.get(queryToken), EXACT_SCORE);
+            postings.subMap(queryToken, false, queryToken + Character.MAX_VALUE, false)
+                    .values().forEach(ids -> collect(tokenScores, ids, PREFIX_SCORE));
+            int maxEdits = queryToken.length() <= 2 ? 0 : queryToken.length() <= 5 ? 1 : 2;
+            if (maxEdits > 0) {
+                String firstLetter = queryToken.substring(0, 1);
+                postings.subMap(firstLetter, true, firstLetter + Character.MAX_VALUE, false).forEach((token, ids) -> {
+                    if (Math.abs(token.length() - queryToken.length()) <= maxEdits
+                            && editDistance(queryToken, token, maxEdits) <= maxEdits) {
+                        collect(tokenScores, ids, FUZZY_SCORE);
+                    }
+                });
+            }
+            tokenScores.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+        }
+        PriorityQueue<Map.Entry<String, Integer>> best = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<ClientResponseDTO> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Document document = documents.get(best.poll().getKey());
+            if (document != null) {
+                results.add(document.client());
+            }
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    private void collect(Map<String, Integer> tokenScores, Set<String> ids, int score) {
+        if (ids != null) {
+            // A client only counts its best match for each query token.
+            ids.forEach(id -> tokenScores.merge(id, score, Math::max));
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(normalized)).filter(token -> !token.isEmpty()).toList();
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("");
+    }
+
+    /**
+     * Levenshtein distance that stops early once every path exceeds {@code maxEdits}.
+     * */
+    private static int editDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return rowMin;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private record Document(ClientResponseDTO client, Set<String> tokens) {
+    }
+}
@@ -1,17 +1,23 @@
 package co.edu.JdA.service;
 
 import co.edu.JdA.DTO.ClientCreationDTO;
+import co.edu.JdA.DTO.ClientResponseDTO;
 import co.edu.JdA.entity.ClientEntity;
 import co.edu.JdA.exception.ClientNotFoundException;
 import co.edu.JdA.exception.IdDuplicadoException;
 import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.exception.VersionConflictException;
 import co.edu.JdA.repository.ClientRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,11 +34,17 @@ import java.util.Optional;
 public class ClientService {
 
     private static final Logger log = LoggerFactory.getLogger(ClientService.class);
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_ID_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_EMAIL_LENGTH = 255;
     private final ClientRepository clientRepository;
+    private final ClientSearchIndex searchIndex;
 
     @Autowired
-    public ClientService(ClientRepository clientRepository){
+    public ClientService(ClientRepository clientRepository, ClientSearchIndex searchIndex){
         this.clientRepository = clientRepository;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -44,14 +56,15 @@ public class ClientService {
      * @throws InvalidDataException if the client data is incomplete or invalid.
      * @throws  IdDuplicadoException if a client with the same ID or email already exists.
      */
+    @Transactional
     public ClientEntity registerClient(ClientCreationDTO clientDTO) throws IdDuplicadoException, InvalidDataException {
         log.info("Iniciando registro de clientes con ID: {}", clientDTO.getId());
 
-        if(clientDTO.getId() == null || clientDTO.getId().trim().isEmpty() ||
-                clientDTO.getName() == null || clientDTO.getName().trim().isEmpty() ||
-                clientDTO.getEmail() == null || clientDTO.getEmail().trim().isEmpty()) {
-            log.error("Error al registrar cliente: datos incompletos o inválidos.");
-            throw new InvalidDataException("Datos del cliente incompletos o inválidos.");
+        try {
+            validateClientData(clientDTO.getId(), clientDTO.getName(), clientDTO.getEmail());
+        } catch (InvalidDataException err) {
+            log.error("Error al registrar cliente: {}", err.getMessage());
+            throw err;
         }
         // Use the repository to check for existence.
         if ( clientRepository.existsById(clientDTO.getId()) || clientRepository.findByEmail(clientDTO.getEmail()).isPresent()) {
@@ -68,10 +81,36 @@ public class ClientService {
         // Saves the entity to the database.
         ClientEntity savedClient = clientRepository.save(newClient);
         log.info("Cliente registrado exitosamente: {} (ID: {}).", savedClient.getName(), savedClient.getId());
+        afterCommit(() -> searchIndex.upsert(savedClient));
 
         return savedClient;
     }
 
+    /**
+     * Checks the data required to register a client.
+     * <p>
+     *     Shared with the bulk import, so both paths accept exactly the same clients. It does not log:
+     *     each caller decides how many rejections are worth logging. The lengths are those of the
+     *     columns, checked here because the bulk import would otherwise let {@code INSERT IGNORE}
+     *     truncate the value silently.
+     * </p>
+     * @param id The ID of the client, up to 255 characters.
+     * @param name The name of the client, up to 100 characters.
+     * @param email The email of the client, up to 255 characters.
+     * @throws InvalidDataException if any of the values is null, empty or too long.
+     * */
+    public static void validateClientData(String id, String name, String email) throws InvalidDataException {
+        if(id == null || id.trim().isEmpty() ||
+                name == null || name.trim().isEmpty() ||
+                email == null || email.trim().isEmpty()) {
+            throw new InvalidDataException("Datos del cliente incompletos o inválidos.");
+        }
+        if (id.length() > MAX_ID_LENGTH || name.length() > MAX_NAME_LENGTH || email.length() > MAX_EMAIL_LENGTH) {
+            throw new InvalidDataException(String.format("El ID y el email no pueden superar los %d caracteres ni el nombre los %d.",
+                    MAX_ID_LENGTH, MAX_NAME_LENGTH));
+        }
+    }
+
     /**
      * Search for a client by its ID.
      * @param id The ID of the client to search for.
@@ -79,13 +118,14 @@ public class ClientService {
      * @throws InvalidDataException if the ID is null or empty.
      * @throws ClientNotFoundException if the client is not found.
      * */
+    @Transactional(readOnly = true)
     public ClientEntity searchClient(String id) throws ClientNotFoundException {
         log.info("Buscando cliente con ID: {}", id);
         if (id == null || id.trim().isEmpty()) {
             log.error("ID de cliente nulo o vacío en la búsqueda.");
             throw new InvalidDataException("El ID del cliente no puede ser nulo o vacío.");
         }
-        Optional<ClientEntity> client = clientRepository.findById(id);
+        Optional<ClientEntity> client = findActiveClient(id);
         if (client.isEmpty()) {
             log.warn("Cliente con ID {} no encontrado.", id);
             throw new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.",id));
@@ -95,35 +135,45 @@ public class ClientService {
     }
 
     /**
-     * List all clients registered in the system.
-     * @return A list of all clients.
+     * List all clients registered in the system, except the deleted ones.
+     * @return A list of all active clients.
      * */
+    @Transactional(readOnly = true)
     public List<ClientEntity> listAllClients() {
         log.info("Listando todos los clientes.");
-        return clientRepository.findAll();
+        return clientRepository.findByDeletedAtIsNull();
     }
 
     /**
      * Delete a client by their ID
+     * <p>
+     *     The client is only marked as deleted, which hides it at once from every lookup.
+     *     Its orders and the client row are removed later by {@link ClientPurgeService}
+     *     in small transactions, so deleting a large client does not lock its orders for long.
+     * </p>
      * @param id The ID of the client to be deleted.
      * @return The deleted client
      * @throws InvalidDataException if the ID is null or empty.
      * @throws ClientNotFoundException if the client does not exist.
      * */
+    @Transactional
     public ClientEntity deleteClient(String id) throws ClientNotFoundException {
         log.info("Eliminando el cliente con ID: {}", id);
         if(id == null || id.trim().isEmpty()) {
             log.error("ID de cliente nulo o vacío.");
             throw new InvalidDataException("El ID del cliente no puede ser nulo o vació.");
         }
-        Optional<ClientEntity> clientOpt = clientRepository.findById(id);
+        Optional<ClientEntity> clientOpt = findActiveClient(id);
         if(clientOpt.isEmpty()) {
             log.warn("Cliente con ID {} no se encontro para eliminar.", id);
             throw new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.", id));
         }
-        clientRepository.deleteById(id);
-        log.info("Cliente con ID {} eliminado exitosamente.", id);
-        return clientOpt.get();
+        ClientEntity client = clientOpt.get();
+        client.setDeletedAt(LocalDateTime.now());
+        ClientEntity deletedClient = clientRepository.save(client);
+        afterCommit(() -> searchIndex.remove(id));
+        log.info("Cliente con ID {} marcado como eliminado; sus pedidos se eliminarán en segundo plano.", id);
+        return deletedClient;
     }
 
     /**
@@ -138,24 +188,115 @@ public class ClientService {
      * @throws ClientNotFoundException if the client does not exist.
      * @throws InvalidDataException if the ID is null or empty.
      * */
+    @Transactional
     public ClientEntity updateClient(String id, ClientCreationDTO clientDTO) throws ClientNotFoundException, InvalidDataException {
+        return updateClient(id, clientDTO, null);
+    }
+
+    /**
+     * Updates the data of an existing client only if it is still at the version the caller read.
+     * <p>
+     *     The version is checked twice: against the expected version here, and by Hibernate when the
+     *     update is flushed ({@code UPDATE ... WHERE version = ?}), which catches a concurrent update
+     *     committed between this read and the commit. No row lock is taken while the client is edited.
+     * </p>
+     * @param id The ID of the client to update.
+     * @param clientDTO DTO with the new client data.
+     * @param expectedVersion The version sent by the caller in {@code If-Match}, or {@code null} to skip the check.
+     * @return The updated client, with its new version.
+     * @throws ClientNotFoundException if the client does not exist.
+     * @throws InvalidDataException if the ID is null or empty.
+     * @throws VersionConflictException if the client is no longer at the expected version.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if a concurrent update commits first.
+     * */
+    @Transactional
+    public ClientEntity updateClient(String id, ClientCreationDTO clientDTO, Long expectedVersion) throws ClientNotFoundException, InvalidDataException {
         log.info("Actualización cliente con ID: {}", id);
         if(id == null || id.trim().isEmpty()) {
             log.error("ID de cliente nulo o vacìo en actualización.");
             throw new InvalidDataException("El ID del cliente no puede ser nulo o vacío.");
         }
-        Optional<ClientEntity> clientOpt = clientRepository.findById(id);
+        Optional<ClientEntity> clientOpt = findActiveClient(id);
         if(clientOpt.isEmpty()) {
             log.warn("Cliente con ID {} no encontrado para actualizar.", id);
             throw new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.", id));
         }
         ClientEntity client = clientOpt.get();
+        if (expectedVersion != null && !expectedVersion.equals(client.getVersion())) {
+            log.warn("Conflicto de versión al actualizar el cliente {}: esperada {}, actual {}.", id, expectedVersion, client.getVersion());
+            throw new VersionConflictException(String.format("El cliente con ID %s fue modificado (versión actual %d, esperada %d).",
+                    id, client.getVersion(), expectedVersion));
+        }
         // Update the allowed fields
         client.setName(clientDTO.getName());
         client.setEmail(clientDTO.getEmail());
         // Registration date and ID are not updated
         ClientEntity updatedClient = clientRepository.save(client);
+        afterCommit(() -> searchIndex.upsert(updatedClient));
         log.info("Cliente con ID {} actualizado exitosamente.", id);
         return updatedClient;
     }
+
+    /**
+     * Searches clients by name or email, matching prefixes and small typos.
+     * @param query The text to search for.
+     * @param limit The maximum number of results, between 1 and 100.
+     * @return The best matching clients, best first.
+     * @throws InvalidDataException if the query is empty or the limit is out of range.
+     * */
+    public List<ClientResponseDTO> searchClients(String query, int limit) throws InvalidDataException {
+        log.info("Buscando clientes con el texto: {}", query);
+        if (query == null || query.trim().isEmpty()) {
+            log.error("Texto de búsqueda nulo o vacío.");
+            throw new InvalidDataException("El texto de búsqueda no puede ser nulo o vacío.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            log.error("Límite de búsqueda inválido: {}", limit);
+            throw new InvalidDataException(String.format("El límite debe estar entre 1 y %d.", MAX_SEARCH_RESULTS));
+        }
+        List<ClientResponseDTO> results = searchIndex.search(query, limit);
+        log.info("La búsqueda '{}' devolvió {} clientes.", query, results.size());
+        return results;
+    }
+
+    /**
+     * Tells whether a client exists and has not been deleted, without logging or failing.
+     * <p>
+     *     Used to hide the data of deleted clients, such as their orders, until the purge removes it.
+     * </p>
+     * @param id The ID of the client, possibly {@code null}.
+     * @return {@code true} if the client is active.
+     * */
+    @Transactional(readOnly = true)
+    public boolean isActiveClient(String id) {
+        return id != null && findActiveClient(id).isPresent();
+    }
+
+    /**
+     * Looks up a client by ID and hides it if it was deleted.
+     * <p>
+     *     Goes through {@code findById}, which is served from the second-level cache,
+     *     instead of a query on {@code deleted_at}, which would always hit the database.
+     * </p>
+     * */
+    private Optional<ClientEntity> findActiveClient(String id) {
+        return clientRepository.findById(id).filter(client -> client.getDeletedAt() == null);
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so the search index
+     * never shows changes that were rolled back. Without a transaction it runs immediately.
+     * */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
\ No newline at end of file
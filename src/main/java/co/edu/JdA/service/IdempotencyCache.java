@@ -0,0 +1,75 @@
+package co.edu.JdA.service;
+
+import co.edu.JdA.entity.OrderEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, time-windowed in-memory cache of the orders created with an idempotency key.
+ * <p>
+ *     Each entry keeps the client ID and the request hash the key was sent with, so the caller
+ *     can tell a retry from another request reusing the key.
+ * </p>
+ * <p>
+ *     Entries expire after the configured window and the oldest entries are evicted when
+ *     the cache is full. The database unique index on the key remains the source of truth;
+ *     this cache only avoids touching the database for the common retry.
+ * </p>
+ * */
+@Component
+public class IdempotencyCache {
+
+    private final long windowMillis;
+    private final Map<String, Entry> entries;
+
+    public IdempotencyCache(@Value("${app.orders.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${app.orders.idempotency.window-minutes:60}") long windowMinutes) {
+        this.windowMillis = windowMinutes * 60_000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key The idempotency key.
+     * @return The entry recorded for the key, or {@code null} if unknown or expired.
+     * */
+    public synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.createdAt() > windowMillis) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Remembers the order created with the key.
+     * @param key The idempotency key.
+     * @param order The created order.
+     * @param clientId The client the key was sent for.
+     * @param requestHash The hash of the request the key was sent with.
+     * */
+    public synchronized void put(String key, OrderEntity order, String clientId, String requestHash) {
+        entries.put(key, new Entry(order, clientId, requestHash, System.currentTimeMillis()));
+    }
+
+    /**
+     * An order created with an idempotency key.
+     * @param order The created order.
+     * @param clientId The client the key was sent for.
+     * @param requestHash The hash of the request the key was sent with.
+     * @param createdAt When the entry was cached, in epoch milliseconds.
+     * */
+    public record Entry(OrderEntity order, String clientId, String requestHash, long createdAt) {
+    }
+}
@@ -0,0 +1,160 @@
+package co.edu.JdA.service;
+
+import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.entity.OrderIdempotencyEntity;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.IdempotencyKeyMismatchException;
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.exception.OrderNotFoundException;
+import co.edu.JdA.repository.OrderIdempotencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service that makes order creation safe to retry with an {@code Idempotency-Key}.
+ * <p>
+ *     A retry with a known key returns the original order without inserting a new one. The key is
+ *     bound to the client and to a hash of the request it was first sent with: reusing it for another
+ *     client or another payload is rejected instead of returning that order.
+ *     Recent keys are answered from the {@link IdempotencyCache} without touching the database;
+ *     older keys, or concurrent requests with the same key, are resolved by the unique index
+ *     of the 'order_idempotency_keys' table.
+ * </p>
+ * */
+@Service
+public class IdempotentOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentOrderService.class);
+    private final OrderService orderService;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final IdempotencyCache idempotencyCache;
+    private final long retentionDays;
+
+    @Autowired
+    public IdempotentOrderService(OrderService orderService, OrderIdempotencyRepository orderIdempotencyRepository,
+                                  IdempotencyCache idempotencyCache,
+                                  @Value("${app.orders.idempotency.retention-days:7}") long retentionDays) {
+        this.orderService = orderService;
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
+        this.idempotencyCache = idempotencyCache;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Result of an idempotent order creation.
+     * @param order The created order, or the original one on a retry.
+     * @param replayed {@code true} if the order already existed for the key.
+     * */
+    public record Result(OrderEntity order, boolean replayed) {
+    }
+
+    /**
+     * Creates an order, or returns the one already created with the same idempotency key.
+     * @param idempotencyKey The key sent by the caller, or {@code null} to always create a new order.
+     * @param clientId The customer ID for the order.
+     * @param total The order total.
+     * @param details The list of order details.
+     * @return The created or original order.
+     * @throws InvalidDataException if the order data or the key is invalid.
+     * @throws ClientNotFoundException if the customer cannot be found.
+     * @throws OrderNotFoundException if the order recorded for the key no longer exists.
+     * @throws IdempotencyKeyMismatchException if the key was sent before with another client or payload.
+     * */
+    public Result createOrder(String idempotencyKey, String clientId, Double total, List<String> details)
+            throws ClientNotFoundException, OrderNotFoundException {
+        if (idempotencyKey == null) {
+            return new Result(orderService.createOrder(clientId, total, details), false);
+        }
+        if (idempotencyKey.trim().isEmpty() || idempotencyKey.length() > 255) {
+            log.error("Clave de idempotencia inválida para el cliente {}", clientId);
+            throw new InvalidDataException("La clave de idempotencia no puede ser vacía ni superar 255 caracteres.");
+        }
+        String requestHash = requestHash(clientId, total, details == null ? null : String.join(", ", details));
+        IdempotencyCache.Entry cached = idempotencyCache.get(idempotencyKey);
+        if (cached != null) {
+            checkSameRequest(idempotencyKey, clientId, requestHash, cached.clientId(), cached.requestHash());
+            log.info("Reintento con clave {}: se devuelve el pedido {}", idempotencyKey, cached.order().getId());
+            return new Result(cached.order(), true);
+        }
+        try {
+            OrderEntity order = orderService.createOrder(clientId, total, details, idempotencyKey, requestHash);
+            idempotencyCache.put(idempotencyKey, order, clientId, requestHash);
+            return new Result(order, false);
+        } catch (DataIntegrityViolationException err) {
+            Optional<OrderIdempotencyEntity> existingKey = orderIdempotencyRepository.findById(idempotencyKey);
+            if (existingKey.isEmpty()) {
+                throw err;
+            }
+            OrderIdempotencyEntity key = existingKey.get();
+            if (key.getRequestHash() != null) {
+                checkSameRequest(idempotencyKey, clientId, requestHash, key.getClientId(), key.getRequestHash());
+            }
+            OrderEntity originalOrder = orderService.searchOrder(key.getOrderId());
+            if (key.getRequestHash() == null) {
+                // Stored before the hash was recorded: compare with the order itself.
+                String originalClientId = originalOrder.getClient().getId();
+                checkSameRequest(idempotencyKey, clientId, requestHash, originalClientId,
+                        requestHash(originalClientId, originalOrder.getTotal(), originalOrder.getDetails()));
+            }
+            log.info("Reintento con clave {}: el pedido {} ya existía", idempotencyKey, originalOrder.getId());
+            idempotencyCache.put(idempotencyKey, originalOrder, clientId, requestHash);
+            return new Result(originalOrder, true);
+        }
+    }
+
+    /**
+     * Rejects a request that reuses a key recorded for another client or another payload.
+     * */
+    private static void checkSameRequest(String idempotencyKey, String clientId, String requestHash,
+                                         String recordedClientId, String recordedRequestHash) {
+        if (!Objects.equals(clientId, recordedClientId) || !requestHash.equals(recordedRequestHash)) {
+            log.error("La clave de idempotencia {} ya se usó con otra solicitud", idempotencyKey);
+            throw new IdempotencyKeyMismatchException(
+                    "La clave de idempotencia ya se usó con otro cliente o con otros datos del pedido.");
+        }
+    }
+
+    /**
+     * Hashes the fields that define an order request.
+     * <p>
+     *     The details are hashed as stored in the order (joined with {@code ", "}), so the hash of a
+     *     request can also be computed from the order it created.
+     * </p>
+     * @return The SHA-256 of the client ID, total and details, in hex.
+     * */
+    static String requestHash(String clientId, Double total, String details) {
+        String request = clientId + "\n" + total + "\n" + details;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(request.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException err) {
+            // Every JVM is required to provide SHA-256.
+            throw new IllegalStateException(err);
+        }
+    }
+
+    /**
+     * Deletes the idempotency keys older than the retention period.
+     * */
+    @Scheduled(cron = "${app.orders.idempotency.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int deleted = orderIdempotencyRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Se eliminaron {} claves de idempotencia vencidas.", deleted);
+    }
+}
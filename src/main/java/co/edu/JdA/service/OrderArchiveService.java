@@ -0,0 +1,166 @@
+package co.edu.JdA.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Service that maintains the monthly partitions of the 'orders' table.
+ * <p>
+ *     On every run it creates the partitions for the upcoming months and moves the partitions
+ *     older than the retention window to the compressed 'orders_archive' table. This keeps
+ *     'orders' limited to recent history, so the hot-path queries only scan recent partitions,
+ *     while {@link OrderService#searchOrder(String)} still finds archived orders.
+ * </p>
+ * <p>
+ *     Moving a partition is done in idempotent steps (copy the rows missing from the archive, then
+ *     {@code DROP PARTITION}), so an interrupted run is completed by the next one. The bulk of the
+ *     partition is copied without blocking anyone; then both tables are locked for writes and only the
+ *     rows that arrived meanwhile (e.g. back-dated orders from a bulk import) are copied, which is an
+ *     index probe per row rather than a second copy of the partition. Before dropping, the partition is
+ *     checked against the archive on {@code (id, order_date)}: a row that is not there, for example
+ *     because the archive already holds another order with the same ID, aborts the move, so no order
+ *     is dropped without being archived. The copy is a plain {@code INSERT}, so such a conflict fails
+ *     loudly instead of being ignored.
+ * </p>
+ * <p>
+ *     Every instance schedules the job, but only the one holding the MySQL named lock
+ *     {@value #LOCK_NAME} runs it; the others skip that run. Named locks belong to a connection, so
+ *     all the statements of a run go through the connection that took the lock.
+ * </p>
+ * */
+@Service
+@ConditionalOnProperty(prefix = "app.orders.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveService.class);
+    private static final String LOCK_NAME = "orders_partition_maintenance";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+    private static final String ORDER_COLUMNS = "id, order_date, total, details, client_id";
+    private static final String ARCHIVED_COLUMNS = "o.id, o.order_date, o.total, o.details, o.client_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    @Autowired
+    public OrderArchiveService(JdbcTemplate jdbcTemplate,
+                               @Value("${app.orders.archive.retention-months:12}") int retentionMonths,
+                               @Value("${app.orders.archive.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates the upcoming partitions and archives the expired ones, unless another instance is already doing it.
+     * */
+    @Scheduled(cron = "${app.orders.archive.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer acquired = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+                if (acquired == null || acquired != 1) {
+                    log.info("Otra instancia está manteniendo las particiones de pedidos.");
+                    return null;
+                }
+                log.info("Iniciando mantenimiento de particiones de pedidos.");
+                try {
+                    createUpcomingPartitions(session);
+                    archiveExpiredPartitions(session);
+                } finally {
+                    session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (Exception err) {
+            log.error("Error en el mantenimiento de particiones de pedidos: {}", err.getMessage());
+        }
+    }
+
+    /**
+     * Splits the catch-all partition so that every month up to {@code months-ahead} has its own partition.
+     * @param session The template bound to the connection holding the lock.
+     * */
+    private void createUpcomingPartitions(JdbcTemplate session) {
+        List<YearMonth> months = monthlyPartitions(session);
+        if (months.isEmpty()) {
+            log.warn("La tabla de pedidos no tiene particiones mensuales.");
+            return;
+        }
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = months.get(months.size() - 1).plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            String partition = month.format(PARTITION_FORMAT);
+            session.execute(String.format(
+                    "ALTER TABLE orders REORGANIZE PARTITION pmax INTO (" +
+                            "PARTITION %s VALUES LESS THAN ('%s'), PARTITION pmax VALUES LESS THAN (MAXVALUE))",
+                    partition, month.plusMonths(1).atDay(1)));
+            log.info("Partición {} creada.", partition);
+        }
+    }
+
+    /**
+     * Moves every monthly partition older than the retention window to the archive table.
+     * @param session The template bound to the connection holding the lock.
+     * */
+    private void archiveExpiredPartitions(JdbcTemplate session) {
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        for (YearMonth month : monthlyPartitions(session)) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            String partition = month.format(PARTITION_FORMAT);
+            String copy = String.format("INSERT INTO orders_archive (%s) SELECT %s FROM orders PARTITION (%s) o " +
+                            "LEFT JOIN orders_archive a ON a.id = o.id WHERE a.id IS NULL",
+                    ORDER_COLUMNS, ARCHIVED_COLUMNS, partition);
+            String missing = String.format("SELECT COUNT(*) FROM orders PARTITION (%s) o " +
+                    "LEFT JOIN orders_archive a ON a.id = o.id AND a.order_date = o.order_date WHERE a.id IS NULL", partition);
+            int archived = session.update(copy);
+            int late;
+            // Under LOCK TABLES every alias needs its own lock.
+            session.execute("LOCK TABLES orders WRITE, orders AS o READ, orders_archive WRITE, orders_archive AS a READ");
+            try {
+                // Rows inserted into the partition since the first copy; usually none.
+                late = session.update(copy);
+                Integer notArchived = session.queryForObject(missing, Integer.class);
+                if (notArchived == null || notArchived > 0) {
+                    throw new IllegalStateException(String.format(
+                            "La partición %s tiene %s pedidos que no están en el archivo; no se elimina.", partition, notArchived));
+                }
+                session.execute(String.format("ALTER TABLE orders DROP PARTITION %s", partition));
+            } finally {
+                session.execute("UNLOCK TABLES");
+            }
+            if (late > 0) {
+                log.warn("Partición {}: {} pedidos llegaron durante el archivado y también se archivaron.", partition, late);
+            }
+            log.info("Partición {} archivada con {} pedidos.", partition, archived + late);
+        }
+    }
+
+    private List<YearMonth> monthlyPartitions(JdbcTemplate session) {
+        List<String> partitions = session.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+        return partitions.stream()
+                .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_FORMAT))
+                .toList();
+    }
+}
@@ -1,19 +1,27 @@
 package co.edu.JdA.service;
 
+import co.edu.JdA.entity.ArchivedOrderEntity;
 import co.edu.JdA.entity.ClientEntity;
 import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.entity.OrderIdempotencyEntity;
 import co.edu.JdA.exception.ClientNotFoundException;
 import co.edu.JdA.exception.IdDuplicadoException;
 import co.edu.JdA.exception.InvalidDataException;
 import co.edu.JdA.exception.OrderNotFoundException;
 import co.edu.JdA.DTO.ClientResponseDTO;
+import co.edu.JdA.DTO.OrderSummaryDTO;
+import co.edu.JdA.repository.ArchivedOrderRepository;
+import co.edu.JdA.repository.OrderIdempotencyRepository;
 import co.edu.JdA.repository.OrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -28,12 +36,25 @@ import java.util.*;
 public class OrderService {
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
     private final ClientService clientService;
+    private final int recentMonths;
 
+    /**
+     * @param recentMonths Months of orders listed per client ({@code app.orders.recent-months}). It defaults to
+     *                     the archive retention, so the listings return what 'orders' holds while letting MySQL
+     *                     prune older partitions; lower it to make the listings touch fewer partitions.
+     * */
     @Autowired
-    public OrderService(OrderRepository orderRepository, ClientService clientService) {
+    public OrderService(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                        OrderIdempotencyRepository orderIdempotencyRepository, ClientService clientService,
+                        @Value("${app.orders.recent-months:${app.orders.archive.retention-months:12}}") int recentMonths) {
         this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
         this.clientService = clientService;
+        this.recentMonths = recentMonths;
     }
 
     /**
@@ -45,11 +66,36 @@ public class OrderService {
      * @throws InvalidDataException if the order data is invalid.
      * @throws ClientNotFoundException if the customer cannot be found.
      * */
+    @Transactional
     public OrderEntity createOrder(String clientId, Double total, List<String> details) throws ClientNotFoundException {
+        return createOrder(clientId, total, details, null, null);
+    }
+
+    /**
+     * Create a new order for an existing customer, recording the idempotency key sent by the caller.
+     * <p>
+     *     The key is inserted before the order in the same transaction, so a second order with the
+     *     same key fails on the unique index and the whole transaction is rolled back.
+     * </p>
+     * @param clientId The customer ID for the order.
+     * @param total The order total.
+     * @param details The list of order details.
+     * @param idempotencyKey The key sent in the {@code Idempotency-Key} header, or {@code null}.
+     * @param requestHash The hash of the request stored with the key, or {@code null} without a key.
+     * @return The created order object.
+     * @throws InvalidDataException if the order data is invalid.
+     * @throws ClientNotFoundException if the customer cannot be found.
+     * @throws org.springframework.dao.DataIntegrityViolationException if an order already exists for the key.
+     * */
+    @Transactional
+    public OrderEntity createOrder(String clientId, Double total, List<String> details, String idempotencyKey,
+                                   String requestHash) throws ClientNotFoundException {
         log.debug("Intentando crear un nuevo pedido para el cliente {}", clientId);
-        if (clientId == null || clientId.trim().isEmpty() || total <= 0 || details == null || details.isEmpty()) {
+        try {
+            validateOrderData(clientId, total, details);
+        } catch (InvalidDataException err) {
             log.error("Datos de pedido inválidos para el cliente {}", clientId);
-            throw new InvalidDataException("Datos del pedido incompletos o inválidos.");
+            throw err;
         }
         ClientEntity existingClient = clientService.searchClient(clientId);
 
@@ -60,19 +106,44 @@ public class OrderService {
         newOrder.setDetails(String.join(", ",details));
         newOrder.setClient(existingClient);
 
+        if (idempotencyKey != null) {
+            // Flushed immediately so a duplicate key fails before the order is inserted.
+            orderIdempotencyRepository.saveAndFlush(new OrderIdempotencyEntity(
+                    idempotencyKey, newOrder.getId(), clientId, requestHash, LocalDateTime.now()));
+        }
         OrderEntity savedOrder = orderRepository.save(newOrder);
         log.info("Pedido {} creado exitosamente para el cliente {}", savedOrder.getId(), clientId);
 
         return savedOrder;
     }
 
+    /**
+     * Checks the data required to create an order.
+     * <p>
+     *     Shared with the bulk import, so both paths accept exactly the same orders. It does not log:
+     *     each caller decides how many rejections are worth logging.
+     * </p>
+     * @param clientId The customer ID for the order.
+     * @param total The order total, which must be positive.
+     * @param details The list of order details, which must not be empty.
+     * @throws InvalidDataException if the order data is invalid.
+     * */
+    public static void validateOrderData(String clientId, Double total, List<String> details) throws InvalidDataException {
+        if (clientId == null || clientId.trim().isEmpty() || total == null || total <= 0 || details == null || details.isEmpty()) {
+            throw new InvalidDataException("Datos del pedido incompletos o inválidos.");
+        }
+    }
+
     /**
      * Searches for an order by its ID.
+     * If the order is not in the 'orders' table, the archive is searched as well. Orders of a deleted
+     * client are not found, even while they wait for the purge.
      * @param id The ID of the order to search for.
      * @return The found order object.
      * @throws OrderNotFoundException if the order is not found.
      * @throws InvalidDataException if the ID is null or empty.
      * */
+    @Transactional(readOnly = true)
     public OrderEntity searchOrder(String id) throws OrderNotFoundException {
         log.debug("Buscando pedido con ID: {}", id);
         if (id == null || id.trim().isEmpty()) {
@@ -81,6 +152,11 @@ public class OrderService {
         }
         Optional<OrderEntity> order = orderRepository.findById(id);
         if (order.isEmpty()) {
+            // Orders older than the retention window live in the archive table.
+            order = archivedOrderRepository.findById(id).map(ArchivedOrderEntity::toOrderEntity);
+        }
+        // getClient().getId() does not load the lazy client; the check goes through the second-level cache.
+        if (order.isEmpty() || !clientService.isActiveClient(order.get().getClient().getId())) {
             log.warn("Pedido con ID {} no encontrado.", id);
             throw new OrderNotFoundException(String.format("El pedido con ID %s no encontrado.", id));
         }
@@ -89,11 +165,18 @@ public class OrderService {
     }
 
     /**
-     * Finds all orders placed by a specific customer.
+     * Finds the orders placed by a specific customer since the start of the month
+     * {@code app.orders.recent-months} months ago.
+     * <p>
+     *     It costs two statements at most: the client lookup (often answered by the second-level cache)
+     *     and the orders fetched with their client. Use {@link #listOrderSummariesClient(String)} where a
+     *     single statement is required.
+     * </p>
      * @param clientId The customer ID.
-     * @return A list of the customer's orders.
+     * @return A list of the customer's recent orders.
      * @throws ClientNotFoundException if the customer does not exist.
      * */
+    @Transactional(readOnly = true)
     public List<OrderEntity> searchOrdersClient(String clientId) throws ClientNotFoundException {
         log.debug("Buscando pedido para el cliente con ID: {}", clientId);
         if (clientId == null || clientId.trim().isEmpty()) {
@@ -102,17 +185,59 @@ public class OrderService {
         }
         clientService.searchClient(clientId);
 
-        List<OrderEntity> ordersClient = orderRepository.findByClientId(clientId);
+        List<OrderEntity> ordersClient = orderRepository.findByClientIdFetchClient(clientId, recentSince());
         log.info("Se encontraron {} pedidos para el cliente con ID {}", ordersClient.size(), clientId);
         return ordersClient;
     }
 
     /**
-     * List all orders registered in the system.
-     * @return A list of all orders.
+     * Lists the recent orders of a customer together with the customer's name and email,
+     * with the same window as {@link #searchOrdersClient(String)}.
+     * <p>
+     *     Unlike {@link #searchOrdersClient(String)}, the existence check and the listing
+     *     are resolved by a single projection query, so the number of SQL statements
+     *     does not depend on the number of orders.
+     * </p>
+     * @param clientId The customer ID.
+     * @return A list of order summaries, most recent first.
+     * @throws ClientNotFoundException if the customer does not exist.
+     * @throws InvalidDataException if the ID is null or empty.
+     * */
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDTO> listOrderSummariesClient(String clientId) throws ClientNotFoundException {
+        log.debug("Listando resumen de pedidos para el cliente con ID: {}", clientId);
+        if (clientId == null || clientId.trim().isEmpty()) {
+            log.error("ID de cliente nulo o vació en el listado de pedidos.");
+            throw new InvalidDataException("El ID del cliente no puede ser nulo o vacío.");
+        }
+        List<OrderSummaryDTO> rows = orderRepository.findOrderSummariesByClientId(clientId, recentSince());
+        if (rows.isEmpty()) {
+            log.warn("Cliente con ID {} no encontrado.", clientId);
+            throw new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.", clientId));
+        }
+        // A client without orders comes back as a single row with no order columns.
+        List<OrderSummaryDTO> summaries = rows.stream()
+                .filter(row -> row.getOrderId() != null)
+                .toList();
+        log.info("Se encontraron {} pedidos para el cliente con ID {}", summaries.size(), clientId);
+        return summaries;
+    }
+
+    /**
+     * First day of the window listed per client. It starts on the first of a month, like the monthly
+     * partitions and the archive cutoff, so it prunes whole partitions.
+     * */
+    private LocalDate recentSince() {
+        return LocalDate.now().minusMonths(recentMonths).withDayOfMonth(1);
+    }
+
+    /**
+     * List all orders registered in the system, except those of deleted clients.
+     * @return A list of all orders of active clients.
      * */
+    @Transactional(readOnly = true)
     public List<OrderEntity> listAllOrders(){
         log.info("Listando todos los pedidos.");
-       return orderRepository.findAll();
+       return orderRepository.findAllOfActiveClients();
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package co.edu.JdA.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends every finished span to a local file, one JSON object per line.
+ * <p>
+ *     Enabled with {@code app.tracing.export.file}. Request threads only put the span in a bounded
+ *     queue; a background thread writes the queue in batches, so a slow disk never slows requests.
+ *     When the queue is full the span is dropped and counted.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.tracing.export", name = "file")
+public class FileSpanExporter extends SpanHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final int BATCH_SIZE = 500;
+
+    private final BlockingQueue<InMemorySpanCollector.CollectedSpan> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BufferedWriter writer;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public FileSpanExporter(@Value("${app.tracing.export.file}") String file) throws IOException {
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.worker = Thread.ofPlatform().name("span-file-exporter").daemon().start(this::drain);
+        log.info("Exportando trazas al archivo {}.", path.toAbsolutePath());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.FINISHED && !queue.offer(InMemorySpanCollector.CollectedSpan.of(span))) {
+            dropped.incrementAndGet();
+        }
+        return true;
+    }
+
+    private void drain() {
+        List<InMemorySpanCollector.CollectedSpan> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                InMemorySpanCollector.CollectedSpan first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<InMemorySpanCollector.CollectedSpan> batch) {
+        try {
+            for (InMemorySpanCollector.CollectedSpan span : batch) {
+                writer.write(objectMapper.writeValueAsString(span));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException err) {
+            log.error("No se pudieron exportar {} trazas: {}", batch.size(), err.getMessage());
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            log.warn("Se descartaron {} trazas porque la cola de exportación estaba llena.", lost);
+        }
+    }
+
+    /**
+     * Writes the spans still in the queue and closes the file.
+     * */
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        // Not interrupted: an interrupt during a write would close the file channel.
+        // The worker sees the flag within a second, writes what is left and ends.
+        running = false;
+        worker.join(5000);
+        writer.close();
+    }
+}
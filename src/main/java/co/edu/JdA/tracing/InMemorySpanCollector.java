@@ -0,0 +1,98 @@
+package co.edu.JdA.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the most recent finished spans in memory.
+ * <p>
+ *     Brave hands every sampled span to this handler when it ends. The last
+ *     {@code app.tracing.collector.max-spans} spans are kept, so traces can be checked in tests
+ *     or while debugging without running a tracing server.
+ * </p>
+ * <p>
+ *     Off unless {@code app.tracing.collector.enabled=true}: every span end takes the same lock, which
+ *     serialises the request threads on a busy instance.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.tracing.collector", name = "enabled", havingValue = "true")
+public class InMemorySpanCollector extends SpanHandler {
+
+    private final Deque<CollectedSpan> spans = new ArrayDeque<>();
+    private final int maxSpans;
+
+    public InMemorySpanCollector(@Value("${app.tracing.collector.max-spans:1000}") int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.FINISHED) {
+            CollectedSpan collected = CollectedSpan.of(span);
+            synchronized (spans) {
+                if (spans.size() == maxSpans) {
+                    spans.removeFirst();
+                }
+                spans.addLast(collected);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The collected spans, oldest first.
+     * */
+    public List<CollectedSpan> spans() {
+        synchronized (spans) {
+            return List.copyOf(spans);
+        }
+    }
+
+    /**
+     * @param traceId The ID of the trace.
+     * @return The collected spans of the trace, oldest first.
+     * */
+    public List<CollectedSpan> spansOf(String traceId) {
+        return spans().stream().filter(span -> span.traceId().equals(traceId)).toList();
+    }
+
+    /**
+     * Discards every collected span.
+     * */
+    public void clear() {
+        synchronized (spans) {
+            spans.clear();
+        }
+    }
+
+    /**
+     * An immutable copy of a finished span.
+     * @param traceId The ID of the trace.
+     * @param spanId The ID of the span.
+     * @param parentId The ID of the parent span, or {@code null} for the root.
+     * @param name The span name, such as {@code ClientService.searchClient}.
+     * @param startMicros The start time, in microseconds since the epoch.
+     * @param durationMicros The duration in microseconds.
+     * @param error The error message, or {@code null}.
+     * @param tags The tags of the span.
+     * */
+    public record CollectedSpan(String traceId, String spanId, String parentId, String name,
+                                long startMicros, long durationMicros, String error, Map<String, String> tags) {
+
+        static CollectedSpan of(MutableSpan span) {
+            String error = span.error() != null ? span.error().getMessage() : span.tag("error");
+            return new CollectedSpan(span.traceId(), span.id(), span.parentId(), span.name(),
+                    span.startTimestamp(), span.finishTimestamp() - span.startTimestamp(), error, Map.copyOf(span.tags()));
+        }
+    }
+}
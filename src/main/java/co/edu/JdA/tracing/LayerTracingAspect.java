@@ -0,0 +1,86 @@
+package co.edu.JdA.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect that opens a span for every call to a controller, a service or a repository.
+ * <p>
+ *     Each call is wrapped in a Micrometer {@link Observation} named {@code app.layer}, with the
+ *     layer, class and method as tags and {@code Class.method} as span name. Nested calls become
+ *     child spans, so a trace of {@code POST /api/ordenes/registrar} shows how much of the time went
+ *     to {@code OrderController}, {@code ClientService.searchClient} and {@code OrderRepository.save}.
+ *     The same observations also publish an {@code app.layer} timer.
+ * </p>
+ * */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.tracing.layers", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerTracingAspect {
+
+    private static final String APPLICATION_PACKAGE = "co.edu.JdA.";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Autowired
+    public LayerTracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("controller", joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("service", joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("repository", joinPoint);
+    }
+
+    private Object observe(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String owner = ownerName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted("app.layer", observationRegistry)
+                .contextualName(owner + "." + method)
+                .lowCardinalityKeyValue("layer", layer)
+                .lowCardinalityKeyValue("class", owner)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable err) {
+            observation.error(err);
+            throw err;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Name of the application type that declares the method. Spring Data repositories run on a
+     * generic implementation, so their name is taken from the application interface of the proxy.
+     * */
+    private static String ownerName(ProceedingJoinPoint joinPoint) {
+        Class<?> declaringType = joinPoint.getSignature().getDeclaringType();
+        if (declaringType.getName().startsWith(APPLICATION_PACKAGE)) {
+            return declaringType.getSimpleName();
+        }
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return declaringType.getSimpleName();
+    }
+}
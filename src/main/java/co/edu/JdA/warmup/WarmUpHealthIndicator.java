@@ -0,0 +1,43 @@
+package co.edu.JdA.warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator {@code warmUp}: {@code OUT_OF_SERVICE} while {@link WarmUpRunner} is running,
+ * {@code UP} afterwards with its duration and coverage.
+ * <p>
+ *     It can be added to the readiness group
+ *     ({@code management.endpoint.health.group.readiness.include=readinessState,warmUp}) to show
+ *     the warm-up details in {@code /actuator/health/readiness}. When the warm-up is disabled it is always {@code UP}.
+ * </p>
+ * */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final ObjectProvider<WarmUpRunner> warmUpRunner;
+
+    @Autowired
+    public WarmUpHealthIndicator(ObjectProvider<WarmUpRunner> warmUpRunner) {
+        this.warmUpRunner = warmUpRunner;
+    }
+
+    @Override
+    public Health health() {
+        WarmUpRunner runner = warmUpRunner.getIfAvailable();
+        if (runner == null) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        if (!runner.isFinished()) {
+            return Health.outOfService().withDetail("status", "calentando").build();
+        }
+        return Health.up()
+                .withDetail("durationMs", runner.getDurationMillis())
+                .withDetail("iterations", runner.getIterations())
+                .withDetail("coverage", runner.getCoverage())
+                .build();
+    }
+}
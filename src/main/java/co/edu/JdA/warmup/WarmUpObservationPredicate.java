@@ -0,0 +1,43 @@
+package co.edu.JdA.warmup;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the warm-up out of the traces and the {@code app.layer} metrics.
+ * <p>
+ *     The warm-up calls the services like a request would, so each of its calls would otherwise become a
+ *     trace of its own and fill the span file (and the {@link co.edu.JdA.tracing.InMemorySpanCollector}, when
+ *     enabled) with synthetic spans. Spring Boot applies every {@link ObservationPredicate} bean to the registry: while
+ *     {@link #suppress} runs, observations started by that thread are no-ops. Other threads, such as
+ *     scheduled jobs, are still observed.
+ * </p>
+ * <p>
+ *     It has no dependencies on purpose: the registry is built before the services, so a predicate that
+ *     needed them would create a cycle.
+ * </p>
+ * */
+@Component
+public class WarmUpObservationPredicate implements ObservationPredicate {
+
+    private final ThreadLocal<Boolean> suppressed = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    public boolean test(String name, Observation.Context context) {
+        return !suppressed.get();
+    }
+
+    /**
+     * Runs the action without observing anything the current thread does meanwhile.
+     * @param action The action to run.
+     * */
+    public void suppress(Runnable action) {
+        suppressed.set(true);
+        try {
+            action.run();
+        } finally {
+            suppressed.remove();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package co.edu.JdA.warmup;
+
+import co.edu.JdA.datasource.ReplicaRoutingDataSource;
+import co.edu.JdA.entity.OrderEntity;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.OrderNotFoundException;
+import co.edu.JdA.repository.OrderRepository;
+import co.edu.JdA.service.ClientService;
+import co.edu.JdA.service.OrderService;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the application up before it reports itself ready for traffic.
+ * <p>
+ *     Spring Boot only switches the readiness state to {@code ACCEPTING_TRAFFIC} after every
+ *     {@link ApplicationRunner} has finished, so while this runner works
+ *     {@code /actuator/health/readiness} answers {@code OUT_OF_SERVICE} and the load balancer keeps
+ *     traffic away. The warm-up:
+ *     <ol>
+ *         <li>Opens {@code app.warmup.connections} connections at once in every pool, so they are full,
+ *         capped to the {@code maximumPoolSize} of a Hikari pool so the warm-up never waits for a connection.
+ *         With replica routing each pool (primary and replicas) is filled directly: through the routing
+ *         data source every connection outside a read-only transaction would go to the primary.</li>
+ *         <li>Loads the {@code app.warmup.preload-clients} clients with the most recent orders
+ *         (last {@code app.warmup.active-days} days) into the second-level cache.</li>
+ *         <li>Calls the read paths of {@link ClientService} and {@link OrderService}
+ *         {@code app.warmup.iterations} times, so the JIT compiles them and Hibernate caches
+ *         their query plans. Nothing is written. By default the number of iterations is taken from the
+ *         JVM, so the paths reach the optimizing compiler (C2): with tiered compilation a method is
+ *         compiled by C1 after {@code Tier3InvocationThreshold} calls (200) and by C2 after
+ *         {@code Tier4InvocationThreshold} more (5000). Each path stops early once
+ *         {@code app.warmup.max-seconds} have passed since the start.</li>
+ *     </ol>
+ *     The calls run with observations suppressed ({@link WarmUpObservationPredicate}), so they leave
+ *     no spans and do not count in the {@code app.layer} metrics.
+ *     Failures never stop the startup; they lower the coverage instead. The duration and the
+ *     coverage (fraction of warm-up operations that succeeded) are published as
+ *     {@code app.warmup.duration} and {@code app.warmup.coverage}.
+ * </p>
+ * */
+@Component
+@ConditionalOnExpression("${app.warmup.enabled:true} and '${app.import.clients:}' == '' and '${app.import.orders:}' == ''")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+    private static final String SYNTHETIC_ID = "warmup-inexistente";
+    // Tier3InvocationThreshold + Tier4InvocationThreshold of HotSpot, when the JVM cannot be asked.
+    private static final int DEFAULT_COMPILE_THRESHOLD = 5200;
+
+    private final ClientService clientService;
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+    private final WarmUpObservationPredicate observations;
+    private final int connections;
+    private final int preloadClients;
+    private final int activeDays;
+    private final int iterations;
+    private final long maxNanos;
+    private volatile long deadline;
+    private final Map<String, Boolean> operations = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean finished;
+    private volatile long durationMillis;
+
+    @Autowired
+    public WarmUpRunner(ClientService clientService,
+                        OrderService orderService,
+                        OrderRepository orderRepository,
+                        ObjectProvider<DataSource> dataSource,
+                        ObjectProvider<ReplicaRoutingDataSource> routingDataSource,
+                        WarmUpObservationPredicate observations,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.warmup.connections:10}") int connections,
+                        @Value("${app.warmup.preload-clients:200}") int preloadClients,
+                        @Value("${app.warmup.active-days:30}") int activeDays,
+                        @Value("${app.warmup.iterations:0}") int iterations,
+                        @Value("${app.warmup.max-seconds:60}") long maxSeconds) {
+        this.clientService = clientService;
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.dataSource = dataSource;
+        this.routingDataSource = routingDataSource;
+        this.observations = observations;
+        this.connections = connections;
+        this.preloadClients = preloadClients;
+        this.activeDays = activeDays;
+        this.iterations = iterations > 0 ? iterations : compileThreshold();
+        this.maxNanos = TimeUnit.SECONDS.toNanos(maxSeconds);
+        Gauge.builder("app.warmup.duration", this, runner -> runner.durationMillis / 1000.0)
+                .baseUnit("seconds")
+                .description("Time spent warming up before accepting traffic")
+                .register(meterRegistry);
+        Gauge.builder("app.warmup.coverage", this, WarmUpRunner::getCoverage)
+                .description("Fraction of the warm-up operations that succeeded")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        deadline = System.nanoTime() + maxNanos;
+        log.info("Iniciando calentamiento de la aplicación ({} iteraciones por operación).", iterations);
+        observations.suppress(this::warmUp);
+        durationMillis = System.currentTimeMillis() - start;
+        finished = true;
+        log.info("Calentamiento terminado en {} ms con una cobertura de {}%: {}",
+                durationMillis, Math.round(getCoverage() * 100), operations);
+    }
+
+    private void warmUp() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing != null) {
+            routing.getResolvedDataSources().forEach((key, pool) -> record("connection-pool-" + key, () -> fillConnectionPool(pool)));
+        } else {
+            DataSource pool = dataSource.getIfAvailable();
+            if (pool != null) {
+                record("connection-pool", () -> fillConnectionPool(pool));
+            }
+        }
+        List<String> clientIds = new ArrayList<>();
+        List<String> orderIds = new ArrayList<>();
+        record("preload-clients", () -> preloadClients(clientIds));
+        record("client-lookup", () -> repeat(clientIds, id -> clientService.searchClient(id)));
+        record("client-orders", () -> repeat(clientIds, id -> collectOrderIds(orderService.searchOrdersClient(id), orderIds)));
+        record("order-summaries", () -> repeat(clientIds, id -> orderService.listOrderSummariesClient(id)));
+        record("order-lookup", () -> repeat(orderIds, id -> orderService.searchOrder(id)));
+    }
+
+    /**
+     * Calls needed for a method to be compiled by C2, read from the HotSpot flags of the running JVM.
+     * */
+    private static int compileThreshold() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            if (hotSpot == null) {
+                return DEFAULT_COMPILE_THRESHOLD;
+            }
+            if (!Boolean.parseBoolean(hotSpot.getVMOption("TieredCompilation").getValue())) {
+                return Integer.parseInt(hotSpot.getVMOption("CompileThreshold").getValue());
+            }
+            return Integer.parseInt(hotSpot.getVMOption("Tier3InvocationThreshold").getValue())
+                    + Integer.parseInt(hotSpot.getVMOption("Tier4InvocationThreshold").getValue());
+        } catch (RuntimeException err) {
+            // Not HotSpot, or the flags are not exposed.
+            return DEFAULT_COMPILE_THRESHOLD;
+        }
+    }
+
+    private void fillConnectionPool(DataSource pool) throws SQLException {
+        int count = connections;
+        if (pool.isWrapperFor(HikariDataSource.class)) {
+            // Asking for more than the pool holds would block for connectionTimeout and then fail.
+            count = Math.min(count, pool.unwrap(HikariDataSource.class).getMaximumPoolSize());
+        }
+        List<Connection> opened = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                Connection connection = pool.getConnection();
+                opened.add(connection);
+                // Lazy proxies only connect on first use.
+                connection.isValid(2);
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+
+    private void preloadClients(List<String> clientIds) throws ClientNotFoundException {
+        clientIds.addAll(orderRepository.findRecentlyActiveClientIds(
+                LocalDate.now().minusDays(activeDays), PageRequest.of(0, Math.max(1, preloadClients))));
+        for (String id : clientIds) {
+            clientService.searchClient(id);
+        }
+        log.info("{} clientes activos precargados en caché.", clientIds.size());
+    }
+
+    private void collectOrderIds(List<OrderEntity> orders, List<String> orderIds) {
+        orders.stream().limit(Math.max(0, preloadClients - orderIds.size())).forEach(order -> orderIds.add(order.getId()));
+    }
+
+    /**
+     * Calls the operation {@code app.warmup.iterations} times, cycling over the IDs, or until the
+     * deadline of the warm-up. Without real data (an empty database) it is called once with an ID
+     * that does not exist, which still runs the query; the not-found answer counts as success
+     * because the path was exercised.
+     * */
+    private void repeat(List<String> ids, WarmUpCall call) throws Exception {
+        List<String> targets = ids.isEmpty() ? List.of(SYNTHETIC_ID) : List.copyOf(ids);
+        int times = ids.isEmpty() ? 1 : iterations;
+        for (int i = 0; i < times; i++) {
+            if (i > 0 && System.nanoTime() - deadline > 0) {
+                log.warn("Calentamiento cortado tras {} de {} iteraciones por superar app.warmup.max-seconds.", i, times);
+                return;
+            }
+            try {
+                call.run(targets.get(i % targets.size()));
+            } catch (ClientNotFoundException | OrderNotFoundException err) {
+                // Expected for the synthetic ID.
+            }
+        }
+    }
+
+    private void record(String operation, ThrowingStep step) {
+        try {
+            step.run();
+            operations.put(operation, true);
+        } catch (Exception err) {
+            operations.put(operation, false);
+            log.warn("Paso de calentamiento '{}' fallido: {}", operation, err.getMessage());
+        }
+    }
+
+    /**
+     * @return {@code true} once the warm-up has finished, successfully or not.
+     * */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return The number of calls made to each read path, configured or taken from the JVM.
+     * */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return The fraction (0 to 1) of the warm-up operations that succeeded.
+     * */
+    public double getCoverage() {
+        synchronized (operations) {
+            if (operations.isEmpty()) {
+                return 0.0;
+            }
+            return operations.values().stream().filter(Boolean::booleanValue).count() / (double) operations.size();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingStep {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface WarmUpCall {
+        void run(String id) throws Exception;
+    }
+}
@@ -0,0 +1,90 @@
+package co.edu.JdA.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to the measured latency.
+ * <p>
+ *     It follows an additive-increase/multiplicative-decrease policy: while the smoothed latency
+ *     stays under the target the limit grows by one, and when it goes above the target the limit
+ *     is cut by 10%. The limit only grows when the requests in flight reached 80% of it during the
+ *     interval, so a quiet period does not raise it to the maximum without any evidence that the
+ *     service copes with that much concurrency. Adjustments are made at most once per interval, and
+ *     all the state is kept in atomics, so acquiring and releasing never block.
+ * </p>
+ * */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final double UTILIZATION_TO_INCREASE = 0.8;
+
+    private final long targetLatencyNanos;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long adjustIntervalNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong smoothedLatencyNanos = new AtomicLong();
+    private final AtomicLong lastAdjustment = new AtomicLong(System.nanoTime());
+
+    public AdaptiveConcurrencyLimiter(long targetLatencyNanos, int initialLimit, int minLimit, int maxLimit, long adjustIntervalNanos) {
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.adjustIntervalNanos = adjustIntervalNanos;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Reserves a slot for a request.
+     * @return {@code true} if the request may proceed, {@code false} if it must be shed.
+     * */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        peakInFlight.accumulateAndGet(current, Math::max);
+        return true;
+    }
+
+    /**
+     * Releases the slot of a finished request and adapts the limit to its latency.
+     * @param latencyNanos The time the request took.
+     * */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        long smoothed = smoothedLatencyNanos.accumulateAndGet(latencyNanos,
+                (previous, sample) -> previous == 0 ? sample : (long) (previous + SMOOTHING * (sample - previous)));
+        long now = System.nanoTime();
+        long last = lastAdjustment.get();
+        if (now - last < adjustIntervalNanos || !lastAdjustment.compareAndSet(last, now)) {
+            return;
+        }
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        limit.updateAndGet(current -> {
+            if (smoothed > targetLatencyNanos) {
+                return Math.max(minLimit, (int) (current * DECREASE_FACTOR));
+            }
+            return peak >= current * UTILIZATION_TO_INCREASE ? Math.min(maxLimit, current + 1) : current;
+        });
+    }
+
+    /**
+     * @return The current concurrency limit.
+     * */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return The number of requests in progress.
+     * */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
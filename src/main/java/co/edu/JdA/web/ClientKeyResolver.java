@@ -0,0 +1,41 @@
+package co.edu.JdA.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the key that identifies the caller of an HTTP request.
+ * <p>
+ *     By default the caller is its remote address (the client address set by the proxy when
+ *     {@code server.forward-headers-strategy} is configured). The {@code X-Client-Id} header is only
+ *     used when {@code app.client-id-header.trusted=true}, that is, when a gateway in front of the
+ *     application authenticates the integrations and sets the header itself; otherwise any caller could
+ *     send a different value on every request and get a fresh rate limit each time.
+ * </p>
+ * */
+@Component
+public class ClientKeyResolver {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final boolean trustClientIdHeader;
+
+    public ClientKeyResolver(@Value("${app.client-id-header.trusted:false}") boolean trustClientIdHeader) {
+        this.trustClientIdHeader = trustClientIdHeader;
+    }
+
+    /**
+     * @param request The current HTTP request.
+     * @return The key identifying the caller.
+     * */
+    public String resolve(HttpServletRequest request) {
+        if (trustClientIdHeader) {
+            String clientId = request.getHeader(CLIENT_ID_HEADER);
+            if (clientId != null && !clientId.trim().isEmpty()) {
+                return clientId.trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
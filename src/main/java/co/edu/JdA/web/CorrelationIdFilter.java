@@ -0,0 +1,68 @@
+package co.edu.JdA.web;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Filter that gives every request a correlation ID and puts it in the MDC of the logs.
+ * <p>
+ *     The ID is taken from the {@code X-Correlation-Id} header when the caller sends a valid one,
+ *     otherwise the trace ID of the request (or a random UUID without tracing) is used. It is stored in
+ *     the MDC as {@code correlationId}, so every log statement of the request can print it, added as a
+ *     tag to the request span, and returned in the response header.
+ * </p>
+ * <p>
+ *     It runs after the observation filter of Spring Boot, so the request span already exists.
+ * </p>
+ * */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final ObjectProvider<Tracer> tracer;
+
+    @Autowired
+    public CorrelationIdFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Tracer currentTracer = tracer.getIfAvailable();
+        Span span = currentTracer != null ? currentTracer.currentSpan() : null;
+        String correlationId = request.getHeader(HEADER);
+        if (correlationId == null || !VALID_ID.matcher(correlationId).matches()) {
+            correlationId = span != null ? span.context().traceId() : UUID.randomUUID().toString();
+        }
+        if (span != null) {
+            span.tag("correlation.id", correlationId);
+        }
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(HEADER, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
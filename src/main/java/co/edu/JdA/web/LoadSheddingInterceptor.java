@@ -0,0 +1,71 @@
+package co.edu.JdA.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor that sheds load when the service is overloaded.
+ * <p>
+ *     Requests beyond the limit of the {@link AdaptiveConcurrencyLimiter} are rejected right away
+ *     with 503 (Service Unavailable) instead of queueing, which keeps the latency of the accepted
+ *     requests close to the target.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.loadshedding", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadSheddingInterceptor.class);
+    private static final String START_ATTRIBUTE = LoadSheddingInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public LoadSheddingInterceptor(@Value("${app.loadshedding.target-latency-ms:200}") long targetLatencyMs,
+                                   @Value("${app.loadshedding.initial-limit:100}") int initialLimit,
+                                   @Value("${app.loadshedding.min-limit:10}") int minLimit,
+                                   @Value("${app.loadshedding.max-limit:500}") int maxLimit,
+                                   @Value("${app.loadshedding.adjust-interval-ms:100}") long adjustIntervalMs) {
+        this.limiter = new AdaptiveConcurrencyLimiter(TimeUnit.MILLISECONDS.toNanos(targetLatencyMs),
+                initialLimit, minLimit, maxLimit, TimeUnit.MILLISECONDS.toNanos(adjustIntervalMs));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (limiter.tryAcquire()) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            return true;
+        }
+        log.warn("Solicitud descartada por sobrecarga: {} en curso, límite {}", limiter.getInFlight(), limiter.getLimit());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Servicio sobrecargado, intente más tarde.");
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            limiter.release(System.nanoTime() - (Long) start);
+        }
+    }
+
+    /**
+     * @return The limiter used to decide which requests are shed.
+     * */
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+}
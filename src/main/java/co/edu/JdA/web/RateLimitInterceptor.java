@@ -0,0 +1,102 @@
+package co.edu.JdA.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor that limits the request rate of each caller on each endpoint.
+ * <p>
+ *     Every combination of caller (see {@link ClientKeyResolver}) and endpoint (HTTP method and
+ *     route pattern) gets its own {@link TokenBucket}. When the bucket is empty the request is
+ *     rejected with 429 (Too Many Requests) and a {@code Retry-After} header, so a single
+ *     integration cannot use up the capacity shared by everyone else.
+ * </p>
+ * <p>
+ *     At most {@code app.ratelimit.max-buckets} buckets are kept. Once the map is full, new callers
+ *     share a single overflow bucket until idle buckets are evicted, so a flood of distinct callers
+ *     can neither exhaust the memory nor get a full bucket each.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.ratelimit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitInterceptor.class);
+    private static final long IDLE_BUCKET_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ClientKeyResolver clientKeyResolver;
+    private final double capacity;
+    private final double refillPerSecond;
+    private final int maxBuckets;
+    private final TokenBucket overflowBucket;
+
+    @Autowired
+    public RateLimitInterceptor(ClientKeyResolver clientKeyResolver,
+                                @Value("${app.ratelimit.capacity:50}") double capacity,
+                                @Value("${app.ratelimit.refill-per-second:20}") double refillPerSecond,
+                                @Value("${app.ratelimit.max-buckets:10000}") int maxBuckets) {
+        this.clientKeyResolver = clientKeyResolver;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.maxBuckets = maxBuckets;
+        this.overflowBucket = new TokenBucket(capacity, refillPerSecond);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String clientKey = clientKeyResolver.resolve(request);
+        String key = clientKey + " " + request.getMethod() + " " + endpointOf(request);
+        TokenBucket bucket = bucketFor(key);
+        if (bucket.tryAcquire()) {
+            return true;
+        }
+        log.warn("Límite de solicitudes excedido para {}", key);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, bucket.secondsUntilNextToken())));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Demasiadas solicitudes, intente más tarde.");
+        return false;
+    }
+
+    /**
+     * Drops the buckets that have not been used recently; a new one starts full anyway.
+     * */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        buckets.values().removeIf(bucket -> bucket.isIdle(IDLE_BUCKET_NANOS));
+    }
+
+    private TokenBucket bucketFor(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            log.debug("Máximo de {} límites alcanzado, {} usa el límite compartido.", maxBuckets, key);
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond));
+    }
+
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.JdA.web;
+
+import co.edu.JdA.datasource.ReadYourWritesTracker;
+import co.edu.JdA.datasource.RoutingContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor that keeps a caller on the primary database right after its own writes.
+ * <p>
+ *     Write requests always use the primary and open a stickiness window for the caller.
+ *     Read requests made inside that window are also routed to the primary, so the caller
+ *     never reads stale data from a replica that has not caught up yet.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ReadYourWritesTracker tracker;
+    private final ClientKeyResolver clientKeyResolver;
+
+    @Autowired
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker, ClientKeyResolver clientKeyResolver) {
+        this.tracker = tracker;
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String callerKey = clientKeyResolver.resolve(request);
+        if (isWrite(request)) {
+            tracker.recordWrite(callerKey);
+            RoutingContext.forcePrimary();
+        } else if (tracker.wroteRecently(callerKey)) {
+            RoutingContext.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (isWrite(request)) {
+            // Start the window again once the write is committed.
+            tracker.recordWrite(clientKeyResolver.resolve(request));
+        }
+        RoutingContext.clear();
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method);
+    }
+}
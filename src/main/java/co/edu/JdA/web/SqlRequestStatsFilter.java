@@ -0,0 +1,65 @@
+package co.edu.JdA.web;
+
+import co.edu.JdA.datasource.SqlRequestContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter that counts the SQL statements and database time of every HTTP request.
+ * <p>
+ *     It opens a {@link SqlRequestContext} for the request and, when the request finishes, logs
+ *     the totals: at warning level when they exceed {@code app.sql.request-statements-warn} or
+ *     {@code app.sql.request-db-time-warn-ms}, or the budget declared with {@link SqlStatementBudget};
+ *     at debug level otherwise.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.sql.instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlRequestStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlRequestStatsFilter.class);
+
+    private final int statementsWarn;
+    private final long databaseTimeWarnMillis;
+
+    public SqlRequestStatsFilter(@Value("${app.sql.request-statements-warn:20}") int statementsWarn,
+                                 @Value("${app.sql.request-db-time-warn-ms:500}") long databaseTimeWarnMillis) {
+        this.statementsWarn = statementsWarn;
+        this.databaseTimeWarnMillis = databaseTimeWarnMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestContext context = SqlRequestContext.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            report(context);
+        }
+    }
+
+    private void report(SqlRequestContext context) {
+        if (context.isOverBudget()) {
+            log.warn("{} ejecutó {} sentencias SQL ({} ms) y su presupuesto es {}.",
+                    context.getRequest(), context.getStatements(), context.getDatabaseMillis(), context.getBudget());
+        } else if (context.getStatements() > statementsWarn || context.getDatabaseMillis() > databaseTimeWarnMillis) {
+            log.warn("{} ejecutó {} sentencias SQL ({} ms en base de datos).",
+                    context.getRequest(), context.getStatements(), context.getDatabaseMillis());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} ejecutó {} sentencias SQL ({} ms en base de datos).",
+                    context.getRequest(), context.getStatements(), context.getDatabaseMillis());
+        }
+    }
+}
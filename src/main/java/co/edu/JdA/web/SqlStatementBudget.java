@@ -0,0 +1,21 @@
+package co.edu.JdA.web;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the maximum number of SQL statements an endpoint may execute per request.
+ * <p>
+ *     Going over the budget is logged by {@link SqlStatementBudgetInterceptor}; with
+ *     {@code app.sql.budget.strict=true} the request fails instead, so tests catch N+1 regressions.
+ * </p>
+ * */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlStatementBudget {
+
+    /**
+     * @return The maximum number of statements.
+     * */
+    int value();
+}
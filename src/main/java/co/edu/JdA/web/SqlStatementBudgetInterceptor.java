@@ -0,0 +1,40 @@
+package co.edu.JdA.web;
+
+import co.edu.JdA.datasource.SqlRequestContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor that applies the {@link SqlStatementBudget} of the handler to the current request.
+ * <p>
+ *     The budget is stored in the {@link SqlRequestContext} opened by {@link SqlRequestStatsFilter};
+ *     the data source checks it on every statement.
+ * </p>
+ * */
+@Component
+@ConditionalOnProperty(prefix = "app.sql.instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final boolean strict;
+
+    public SqlStatementBudgetInterceptor(@Value("${app.sql.budget.strict:false}") boolean strict) {
+        this.strict = strict;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null && handler instanceof HandlerMethod handlerMethod) {
+            SqlStatementBudget budget = handlerMethod.getMethodAnnotation(SqlStatementBudget.class);
+            if (budget != null) {
+                context.limitTo(budget.value(), strict);
+            }
+        }
+        return true;
+    }
+}
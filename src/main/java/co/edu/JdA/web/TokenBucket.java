@@ -0,0 +1,63 @@
+package co.edu.JdA.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ *     The bucket holds up to {@code capacity} tokens and refills continuously at
+ *     {@code refillPerSecond}. The state is an immutable snapshot swapped with compare-and-set,
+ *     so concurrent requests never block each other.
+ * </p>
+ * */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    /**
+     * Takes one token if available.
+     * @return {@code true} if the token was taken, {@code false} if the bucket is empty.
+     * */
+    public boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * refillPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return The number of seconds until the next token is available.
+     * */
+    public long secondsUntilNextToken() {
+        State current = state.get();
+        double tokens = current.tokens() + (System.nanoTime() - current.refilledAt()) * refillPerNano;
+        double missing = Math.max(0, 1 - tokens);
+        return (long) Math.ceil(missing / refillPerNano / 1_000_000_000d);
+    }
+
+    /**
+     * @param idleNanos Idle time threshold in nanoseconds.
+     * @return {@code true} if the bucket has not been used for at least {@code idleNanos}.
+     * */
+    public boolean isIdle(long idleNanos) {
+        return System.nanoTime() - state.get().refilledAt() >= idleNanos;
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,51 @@
+--
+-- File: V3__partition_orders.sql
+-- Description: partition the orders table by month of order_date and create the compressed archive table
+--
+
+-- MySQL does not allow foreign keys on partitioned tables, and every unique key
+-- must include the partitioning column.
+ALTER TABLE orders DROP FOREIGN KEY orders_ibfk_1;
+ALTER TABLE orders DROP PRIMARY KEY, ADD PRIMARY KEY (id, order_date);
+ALTER TABLE orders DROP INDEX client_id, ADD INDEX idx_orders_client_date (client_id, order_date);
+
+-- One partition per month. p202412 holds all the history before 2025 and pmax
+-- catches future dates until the archival job creates their monthly partition.
+ALTER TABLE orders PARTITION BY RANGE COLUMNS(order_date) (
+    PARTITION p202412 VALUES LESS THAN ('2025-01-01'),
+    PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+    PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+    PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+    PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+    PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+    PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+    PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+    PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- Orders moved out of the partitions older than the retention window.
+CREATE TABLE orders_archive (
+    id VARCHAR(255) PRIMARY KEY,
+    order_date DATE NOT NULL,
+    total DOUBLE NOT NULL,
+    details TEXT,
+    client_id VARCHAR(255),
+    INDEX idx_orders_archive_client (client_id)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
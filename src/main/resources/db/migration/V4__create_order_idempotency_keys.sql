@@ -0,0 +1,13 @@
+--
+-- File: V4__create_order_idempotency_keys.sql
+-- Description: store the Idempotency-Key of each created order
+--
+
+-- Kept apart from the partitioned 'orders' table, where a unique key would
+-- have to include order_date and could not guarantee one order per key.
+CREATE TABLE order_idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    order_id VARCHAR(255) NOT NULL,
+    created_at DATETIME NOT NULL,
+    INDEX idx_order_idempotency_created (created_at)
+);
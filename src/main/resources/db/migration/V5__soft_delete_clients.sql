@@ -0,0 +1,10 @@
+--
+-- File: V5__soft_delete_clients.sql
+-- Description: mark deleted clients instead of removing them in the request
+--
+
+-- A client with deleted_at is hidden from the API; ClientPurgeService removes
+-- its orders in small chunks and then the client row itself.
+ALTER TABLE clients ADD COLUMN deleted_at DATETIME NULL;
+
+CREATE INDEX idx_clients_deleted_at ON clients (deleted_at);
@@ -0,0 +1,8 @@
+--
+-- File: V6__add_client_version.sql
+-- Description: version column for optimistic locking of clients
+--
+
+-- Every update sets version = version + 1 WHERE version = <version read>,
+-- so concurrent updates of the same client are detected instead of overwritten.
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+--
+-- File: V7__add_idempotency_request_fingerprint.sql
+-- Description: bind each idempotency key to the client and the request it was sent with
+--
+
+-- A key is only replayed for the same client and the same payload (SHA-256 of
+-- client_id, total and details); any other request reusing it is rejected.
+-- Keys stored before this migration have neither column and are checked
+-- against the order they point to.
+ALTER TABLE order_idempotency_keys
+    ADD COLUMN client_id VARCHAR(255) NULL,
+    ADD COLUMN request_hash CHAR(64) NULL;
@@ -0,0 +1,52 @@
+package co.edu.JdA.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Main class of the reactive variant of the API.
+ * <p>
+ * It only scans the {@code co.edu.JdA.reactive} package and turns off the blocking JDBC/JPA
+ * auto-configuration, so the same {@code clients}/{@code orders} schema is served by WebFlux on
+ * Netty and R2DBC. A small, fixed number of event-loop threads handles every connection.
+ * The schema itself is still migrated by the main application with Flyway.
+ * </p>
+ * <p>
+ * Every bean of this package is limited to the {@code reactive} profile, which {@link #main} turns on:
+ * the package sits under {@code co.edu.JdA}, so the main application scans it too when it is built with
+ * {@code -Preactive}.
+ * </p>
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        FlywayAutoConfiguration.class
+})
+@Profile("reactive")
+public class ReactiveMain {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveMain.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles("reactive");
+        application.run(args);
+    }
+
+    /**
+     * Uses Netty even though Tomcat is also on the classpath because of the servlet stack.
+     * @return The Netty server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
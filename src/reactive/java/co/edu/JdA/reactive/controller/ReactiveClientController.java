@@ -0,0 +1,127 @@
+package co.edu.JdA.reactive.controller;
+
+import co.edu.JdA.DTO.ClientCreationDTO;
+import co.edu.JdA.DTO.ClientResponseDTO;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.IdDuplicadoException;
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.reactive.entity.ClientRow;
+import co.edu.JdA.reactive.service.ReactiveClientService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller that mirrors {@link co.edu.JdA.controller.ClientController}.
+ * <p>
+ *     Same routes and bodies, served by WebFlux. The list endpoint streams the clients as they
+ *     are read from the database instead of building the full list first. Conditional updates are
+ *     not supported: no {@code ETag} is returned and {@code If-Match} is ignored, so an update is
+ *     always applied as an unconditional one ({@code 409} only when a concurrent update of the
+ *     same row commits first).
+ * </p>
+ * */
+@RestController
+@Profile("reactive")
+@RequestMapping("api/clientes")
+public class ReactiveClientController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveClientController.class);
+    private final ReactiveClientService clientService;
+
+    @Autowired
+    public ReactiveClientController(ReactiveClientService clientService) {
+        this.clientService = clientService;
+    }
+
+    /**
+     * Endpoint to register a new client using a DTO.
+     * @param clientDTO The Client object from the request body.
+     * @return A message indicating the result of the operation.
+     */
+    @PostMapping("/registrar")
+    public Mono<ResponseEntity<String>> registerClient(@RequestBody ClientCreationDTO clientDTO) {
+        log.info("Iniciando registro de cliente");
+        return clientService.registerClient(clientDTO)
+                .map(client -> new ResponseEntity<>("Cliente registrado exitosamente: " + client.getName(), HttpStatus.CREATED))
+                .onErrorResume(IdDuplicadoException.class, err -> message(err, HttpStatus.CONFLICT))
+                .onErrorResume(InvalidDataException.class, err -> message(err, HttpStatus.BAD_REQUEST))
+                .onErrorResume(err -> internalError("registrar cliente", err));
+    }
+
+    /**
+     * Endpoint to search for a client by their ID.
+     * @param id The ID of the client to search for, passed in the URL path.
+     * @return The client data or an error status.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ClientResponseDTO>> searchClientById(@PathVariable String id) {
+        log.info("Iniciando búsqueda de cliente con ID: {}", id);
+        return clientService.searchClient(id)
+                .map(client -> new ResponseEntity<>(client.toResponseDTO(), HttpStatus.OK))
+                .onErrorResume(ClientNotFoundException.class, err -> Mono.just(new ResponseEntity<>(HttpStatus.NOT_FOUND)))
+                .onErrorResume(err -> {
+                    log.error("Error inesperado al buscar cliente con ID {}: {}", id, err.getMessage());
+                    return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+                });
+    }
+
+    /**
+     * Endpoint to stream all clients as newline-delimited JSON.
+     * @return A {@link Flux} emitting every client.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ClientResponseDTO> listClients() {
+        log.info("Solicitud para listar todos los clientes");
+        return clientService.listAllClients().map(ClientRow::toResponseDTO);
+    }
+
+    /**
+     * Delete a client by their ID. The client is hidden at once and its orders are removed in the background.
+     * @param id The ID of the client to be deleted.
+     * @return A message indicating the result of the operation.
+     * */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteClient(@PathVariable String id) {
+        log.info("Solicitud para eliminar cliente con ID: {}", id);
+        return clientService.deleteClient(id)
+                .map(client -> new ResponseEntity<>("Cliente eliminado exitosamente. Sus pedidos se eliminarán en segundo plano.", HttpStatus.ACCEPTED))
+                .onErrorResume(ClientNotFoundException.class, err -> message(err, HttpStatus.NOT_FOUND))
+                .onErrorResume(InvalidDataException.class, err -> message(err, HttpStatus.BAD_REQUEST))
+                .onErrorResume(err -> internalError("eliminar cliente", err));
+    }
+
+    /**
+     * Endpoint to update the data of an existing client.
+     * @param id The ID of the client to update.
+     * @param clientDTO DTO with the new client data.
+     * @return A message indicating the result of the operation.
+     * */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<String>> updateClient(@PathVariable String id, @RequestBody ClientCreationDTO clientDTO) {
+        log.info("Solicitud para actualizar cliente con ID: {}", id);
+        return clientService.updateClient(id, clientDTO)
+                .map(client -> new ResponseEntity<>("Cliente actualizado exitosamente.", HttpStatus.OK))
+                .onErrorResume(ClientNotFoundException.class, err -> message(err, HttpStatus.NOT_FOUND))
+                .onErrorResume(InvalidDataException.class, err -> message(err, HttpStatus.BAD_REQUEST))
+                .onErrorResume(OptimisticLockingFailureException.class, err -> message(err, HttpStatus.CONFLICT))
+                .onErrorResume(err -> internalError("actualizar cliente", err));
+    }
+
+    private Mono<ResponseEntity<String>> message(Throwable err, HttpStatus status) {
+        log.warn("Solicitud de cliente rechazada: {}", err.getMessage());
+        return Mono.just(new ResponseEntity<>(err.getMessage(), status));
+    }
+
+    private Mono<ResponseEntity<String>> internalError(String operation, Throwable err) {
+        log.error("Error inesperado al {}: {}", operation, err.getMessage());
+        return Mono.just(new ResponseEntity<>("Error interno del servidor.", HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+}
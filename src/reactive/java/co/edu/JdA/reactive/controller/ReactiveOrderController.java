@@ -0,0 +1,95 @@
+package co.edu.JdA.reactive.controller;
+
+import co.edu.JdA.DTO.OrderCreateDTO;
+import co.edu.JdA.DTO.OrderResponseDTO;
+import co.edu.JdA.DTO.OrderSummaryDTO;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.exception.OrderNotFoundException;
+import co.edu.JdA.reactive.service.ReactiveOrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive controller that mirrors {@link co.edu.JdA.controller.OrderController}.
+ * <p>
+ *     Same routes and bodies, served by WebFlux. The listing of a client's orders is streamed
+ *     as newline-delimited JSON. {@code Idempotency-Key} and the batch endpoint are not supported.
+ * </p>
+ * */
+@RestController
+@Profile("reactive")
+@RequestMapping("api/ordenes")
+public class ReactiveOrderController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderController.class);
+    private final ReactiveOrderService orderService;
+
+    @Autowired
+    public ReactiveOrderController(ReactiveOrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    /**
+     * Registers a new order in the system.
+     * @param orderDTO The DTO containing the order data (clientId, total, details).
+     * @return A success message with status 201, or an appropriate status code and message.
+     * */
+    @PostMapping("/registrar")
+    public Mono<ResponseEntity<String>> registerOrder(@RequestBody OrderCreateDTO orderDTO) {
+        log.info("Creando orden para el cliente: {}", orderDTO.getClientId());
+        return orderService.createOrder(orderDTO.getClientId(), orderDTO.getTotal(), orderDTO.getDetails())
+                .map(order -> new ResponseEntity<>("Orden creada exitosamente", HttpStatus.CREATED))
+                .onErrorResume(err -> err instanceof InvalidDataException || err instanceof ClientNotFoundException, err -> {
+                    log.error("Error al registrar la orden, datos inválidos o cliente no encontrado: {}", err.getMessage());
+                    return Mono.just(new ResponseEntity<>(err.getMessage(), HttpStatus.BAD_REQUEST));
+                })
+                .onErrorResume(err -> {
+                    log.error("Error inesperado al crear orden: {}", err.getMessage());
+                    return Mono.just(new ResponseEntity<>("Error interno del servidor.", HttpStatus.INTERNAL_SERVER_ERROR));
+                });
+    }
+
+    /**
+     * Endpoint to search for an order by its ID.
+     * @param id The ID of the order to search for, passed in the URL path.
+     * @return The order data or an error status.
+     * */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<OrderResponseDTO>> searchOrderById(@PathVariable String id) {
+        log.info("Iniciando búsqueda de orden con ID: {}", id);
+        return orderService.searchOrder(id)
+                .map(order -> new ResponseEntity<>(order.toResponseDTO(), HttpStatus.OK))
+                .onErrorResume(OrderNotFoundException.class, err -> Mono.just(new ResponseEntity<>(HttpStatus.NOT_FOUND)))
+                .onErrorResume(err -> {
+                    log.error("Error inesperado al buscar orden con ID {}: {}", id, err.getMessage());
+                    return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+                });
+    }
+
+    /**
+     * Endpoint to stream the orders of a client, including the client's name and email.
+     * <p>
+     *     An unknown client is detected before any element is emitted, so it is still answered with 404.
+     * </p>
+     * @param clientId The ID of the client, passed in the URL path.
+     * @return A {@link Flux} of order summaries.
+     * */
+    @GetMapping(value = "/cliente/{clientId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<OrderSummaryDTO> listOrdersByClient(@PathVariable String clientId) {
+        log.info("Listando pedidos del cliente con ID: {}", clientId);
+        return orderService.listOrderSummariesClient(clientId)
+                .onErrorMap(ClientNotFoundException.class,
+                        err -> new ResponseStatusException(HttpStatus.NOT_FOUND, err.getMessage()))
+                .onErrorMap(InvalidDataException.class,
+                        err -> new ResponseStatusException(HttpStatus.BAD_REQUEST, err.getMessage()));
+    }
+}
@@ -0,0 +1,53 @@
+package co.edu.JdA.reactive.entity;
+
+import co.edu.JdA.DTO.ClientResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the 'clients' table used by the reactive variant.
+ * */
+@Table("clients")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientRow {
+
+    @Id
+    @Column("id")
+    private String id;
+
+    @Column("name")
+    private String name;
+
+    @Column("email")
+    private String email;
+
+    @Column("registration_date")
+    private LocalDate registrationDate;
+
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * Optimistic locking version, checked and incremented by every update.
+     * */
+    @Version
+    @Column("version")
+    private Long version;
+
+    /**
+     * @return The response DTO for this client.
+     * */
+    public ClientResponseDTO toResponseDTO() {
+        return new ClientResponseDTO(id, name, email, registrationDate, 0.0, "");
+    }
+}
@@ -0,0 +1,49 @@
+package co.edu.JdA.reactive.entity;
+
+import co.edu.JdA.DTO.OrderResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * R2DBC mapping of the 'orders' table used by the reactive variant.
+ * */
+@Table("orders")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRow {
+
+    @Id
+    @Column("id")
+    private String id;
+
+    @Column("order_date")
+    private LocalDate orderDate;
+
+    @Column("total")
+    private Double total;
+
+    @Column("details")
+    private String details;
+
+    @Column("client_id")
+    private String clientId;
+
+    /**
+     * @return The response DTO for this order, with the details split into a list.
+     * */
+    public OrderResponseDTO toResponseDTO() {
+        List<String> detailsList = details != null && !details.isEmpty()
+                ? Arrays.asList(details.split(", "))
+                : List.of();
+        return new OrderResponseDTO(id, clientId, orderDate, total, detailsList);
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.JdA.reactive.repository;
+
+import co.edu.JdA.reactive.entity.ClientRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for the 'clients' table.
+ * <p>
+ *     Spring Data R2DBC generates the implementation at runtime.
+ * </p>
+ * */
+public interface ReactiveClientRepository extends ReactiveCrudRepository<ClientRow, String> {
+
+    /**
+     * Finds a client by their email address.
+     * @param email The email address of the client.
+     * @return A {@link Mono} with the found client, or empty if not found.
+     * */
+    Mono<ClientRow> findByEmail(String email);
+
+    /**
+     * Finds a client by its ID, unless it has been deleted.
+     * @param id The ID of the client.
+     * @return A {@link Mono} with the active client, or empty if not found or deleted.
+     * */
+    Mono<ClientRow> findByIdAndDeletedAtIsNull(String id);
+
+    /**
+     * Tells whether a client exists and has not been deleted.
+     * @param id The ID of the client.
+     * @return A {@link Mono} with {@code true} if the client is active.
+     * */
+    Mono<Boolean> existsByIdAndDeletedAtIsNull(String id);
+
+    /**
+     * Lists the clients that have not been deleted.
+     * @return A {@link Flux} emitting the active clients.
+     * */
+    Flux<ClientRow> findByDeletedAtIsNull();
+}
@@ -0,0 +1,23 @@
+package co.edu.JdA.reactive.repository;
+
+import co.edu.JdA.reactive.entity.OrderRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for the 'orders' table.
+ * <p>
+ *     Spring Data R2DBC generates the implementation at runtime.
+ * </p>
+ * */
+public interface ReactiveOrderRepository extends ReactiveCrudRepository<OrderRow, String> {
+
+    /**
+     * Finds an order in the archive table.
+     * @param id The ID of the order.
+     * @return A {@link Mono} with the archived order, or empty if not found.
+     * */
+    @Query("SELECT id, order_date, total, details, client_id FROM orders_archive WHERE id = :id")
+    Mono<OrderRow> findArchivedById(String id);
+}
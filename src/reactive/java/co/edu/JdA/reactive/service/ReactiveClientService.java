@@ -0,0 +1,144 @@
+package co.edu.JdA.reactive.service;
+
+import co.edu.JdA.DTO.ClientCreationDTO;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.IdDuplicadoException;
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.reactive.entity.ClientRow;
+import co.edu.JdA.reactive.repository.ReactiveClientRepository;
+import co.edu.JdA.service.ClientService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of {@link co.edu.JdA.service.ClientService}.
+ * <p>
+ *     Applies the same validations and signals the same exceptions, but every operation
+ *     returns a {@link Mono} or {@link Flux} and never blocks the calling thread.
+ * </p>
+ * */
+@Service
+@Profile("reactive")
+public class ReactiveClientService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveClientService.class);
+    private final ReactiveClientRepository clientRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+
+    @Autowired
+    public ReactiveClientService(ReactiveClientRepository clientRepository, R2dbcEntityTemplate entityTemplate) {
+        this.clientRepository = clientRepository;
+        this.entityTemplate = entityTemplate;
+    }
+
+    /**
+     * Registers a new client in the system.
+     * @param clientDTO The DTO with the client's data.
+     * @return The created client, or an {@link InvalidDataException} or {@link IdDuplicadoException} error.
+     * */
+    @Transactional
+    public Mono<ClientRow> registerClient(ClientCreationDTO clientDTO) {
+        log.info("Iniciando registro de clientes con ID: {}", clientDTO.getId());
+        try {
+            ClientService.validateClientData(clientDTO.getId(), clientDTO.getName(), clientDTO.getEmail());
+        } catch (InvalidDataException err) {
+            log.error("Error al registrar cliente: {}", err.getMessage());
+            return Mono.error(err);
+        }
+        return clientRepository.existsById(clientDTO.getId())
+                .zipWith(clientRepository.findByEmail(clientDTO.getEmail()).hasElement(), Boolean::logicalOr)
+                .flatMap(duplicated -> {
+                    if (duplicated) {
+                        log.warn("Intento de registro de cliente con ID {} o email {} duplicado.", clientDTO.getId(), clientDTO.getEmail());
+                        return Mono.error(new IdDuplicadoException(String.format("El cliente con ID %s o email %s ya existe", clientDTO.getId(), clientDTO.getEmail())));
+                    }
+                    ClientRow newClient = new ClientRow(clientDTO.getId(), clientDTO.getName(), clientDTO.getEmail(), LocalDate.now(), null, null);
+                    return entityTemplate.insert(newClient);
+                })
+                .doOnNext(saved -> log.info("Cliente registrado exitosamente: {} (ID: {}).", saved.getName(), saved.getId()));
+    }
+
+    /**
+     * Search for a client by its ID.
+     * @param id The ID of the client to search for.
+     * @return The client found, or an {@link InvalidDataException} or {@link ClientNotFoundException} error.
+     * */
+    public Mono<ClientRow> searchClient(String id) {
+        log.info("Buscando cliente con ID: {}", id);
+        if (id == null || id.trim().isEmpty()) {
+            log.error("ID de cliente nulo o vacío en la búsqueda.");
+            return Mono.error(new InvalidDataException("El ID del cliente no puede ser nulo o vacío."));
+        }
+        return clientRepository.findByIdAndDeletedAtIsNull(id)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Cliente con ID {} no encontrado.", id);
+                    return Mono.error(new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.", id)));
+                }));
+    }
+
+    /**
+     * Tells whether a client exists and has not been deleted, without logging or failing.
+     * @param id The ID of the client, possibly {@code null}.
+     * @return A {@link Mono} with {@code true} if the client is active.
+     * */
+    public Mono<Boolean> isActiveClient(String id) {
+        return id == null ? Mono.just(false) : clientRepository.existsByIdAndDeletedAtIsNull(id);
+    }
+
+    /**
+     * List all clients registered in the system, except the deleted ones, as a stream.
+     * @return A {@link Flux} emitting every active client.
+     * */
+    public Flux<ClientRow> listAllClients() {
+        log.info("Listando todos los clientes.");
+        return clientRepository.findByDeletedAtIsNull();
+    }
+
+    /**
+     * Marks a client as deleted by its ID.
+     * <p>
+     *     The orders and the client row are removed later by the purge of the main application
+     *     ({@link co.edu.JdA.service.ClientPurgeService}).
+     * </p>
+     * @param id The ID of the client to be deleted.
+     * @return The deleted client, or an {@link InvalidDataException} or {@link ClientNotFoundException} error.
+     * */
+    @Transactional
+    public Mono<ClientRow> deleteClient(String id) {
+        log.info("Eliminando el cliente con ID: {}", id);
+        return searchClient(id)
+                .flatMap(client -> {
+                    client.setDeletedAt(LocalDateTime.now());
+                    return entityTemplate.update(client);
+                })
+                .doOnNext(client -> log.info("Cliente con ID {} marcado como eliminado; sus pedidos se eliminarán en segundo plano.", id));
+    }
+
+    /**
+     * Updates the name and email of an existing client.
+     * @param id The ID of the client to update.
+     * @param clientDTO DTO with the new client data.
+     * @return The updated client, or an {@link InvalidDataException} or {@link ClientNotFoundException} error.
+     * */
+    @Transactional
+    public Mono<ClientRow> updateClient(String id, ClientCreationDTO clientDTO) {
+        log.info("Actualización cliente con ID: {}", id);
+        return searchClient(id)
+                .flatMap(client -> {
+                    client.setName(clientDTO.getName());
+                    client.setEmail(clientDTO.getEmail());
+                    return entityTemplate.update(client);
+                })
+                .doOnNext(client -> log.info("Cliente con ID {} actualizado exitosamente.", id));
+    }
+}
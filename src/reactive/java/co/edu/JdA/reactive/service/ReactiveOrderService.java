@@ -0,0 +1,121 @@
+package co.edu.JdA.reactive.service;
+
+import co.edu.JdA.DTO.OrderSummaryDTO;
+import co.edu.JdA.exception.ClientNotFoundException;
+import co.edu.JdA.exception.InvalidDataException;
+import co.edu.JdA.exception.OrderNotFoundException;
+import co.edu.JdA.reactive.entity.OrderRow;
+import co.edu.JdA.reactive.repository.ReactiveOrderRepository;
+import co.edu.JdA.service.OrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link co.edu.JdA.service.OrderService}.
+ * <p>
+ *     Applies the same validations and signals the same exceptions, but every operation
+ *     returns a {@link Mono} or {@link Flux} and never blocks the calling thread.
+ * </p>
+ * */
+@Service
+@Profile("reactive")
+public class ReactiveOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderService.class);
+    private static final String ORDER_SUMMARIES_QUERY =
+            "SELECT c.id AS client_id, c.name, c.email, o.id AS order_id, o.order_date, o.total, o.details " +
+                    "FROM clients c LEFT JOIN orders o ON o.client_id = c.id WHERE c.id = :clientId AND c.deleted_at IS NULL ORDER BY o.order_date DESC";
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveClientService clientService;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveOrderService(ReactiveOrderRepository orderRepository, ReactiveClientService clientService,
+                                R2dbcEntityTemplate entityTemplate, DatabaseClient databaseClient) {
+        this.orderRepository = orderRepository;
+        this.clientService = clientService;
+        this.entityTemplate = entityTemplate;
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Create a new order for an existing customer.
+     * @param clientId The customer ID for the order.
+     * @param total The order total.
+     * @param details The list of order details.
+     * @return The created order, or an {@link InvalidDataException} or {@link ClientNotFoundException} error.
+     * */
+    public Mono<OrderRow> createOrder(String clientId, Double total, List<String> details) {
+        log.debug("Intentando crear un nuevo pedido para el cliente {}", clientId);
+        try {
+            OrderService.validateOrderData(clientId, total, details);
+        } catch (InvalidDataException err) {
+            log.error("Datos de pedido inválidos para el cliente {}", clientId);
+            return Mono.error(err);
+        }
+        return clientService.searchClient(clientId)
+                .flatMap(client -> entityTemplate.insert(new OrderRow(
+                        UUID.randomUUID().toString(), LocalDate.now(), total, String.join(", ", details), client.getId())))
+                .doOnNext(saved -> log.info("Pedido {} creado exitosamente para el cliente {}", saved.getId(), clientId));
+    }
+
+    /**
+     * Searches for an order by its ID, falling back to the archive.
+     * Orders of a deleted client are not found, even while they wait for the purge.
+     * @param id The ID of the order to search for.
+     * @return The found order, or an {@link InvalidDataException} or {@link OrderNotFoundException} error.
+     * */
+    public Mono<OrderRow> searchOrder(String id) {
+        log.debug("Buscando pedido con ID: {}", id);
+        if (id == null || id.trim().isEmpty()) {
+            log.error("ID de pedido nulo o vació en la búsqueda.");
+            return Mono.error(new InvalidDataException("El ID del pedido no puede ser nulo o vacío."));
+        }
+        return orderRepository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> orderRepository.findArchivedById(id)))
+                .filterWhen(order -> clientService.isActiveClient(order.getClientId()))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Pedido con ID {} no encontrado.", id);
+                    return Mono.error(new OrderNotFoundException(String.format("El pedido con ID %s no encontrado.", id)));
+                }));
+    }
+
+    /**
+     * Streams the orders of a customer together with the customer's name and email, using a single query.
+     * @param clientId The customer ID.
+     * @return A {@link Flux} of order summaries, most recent first, or a {@link ClientNotFoundException} error.
+     * */
+    public Flux<OrderSummaryDTO> listOrderSummariesClient(String clientId) {
+        log.debug("Listando resumen de pedidos para el cliente con ID: {}", clientId);
+        if (clientId == null || clientId.trim().isEmpty()) {
+            log.error("ID de cliente nulo o vació en el listado de pedidos.");
+            return Flux.error(new InvalidDataException("El ID del cliente no puede ser nulo o vacío."));
+        }
+        return databaseClient.sql(ORDER_SUMMARIES_QUERY)
+                .bind("clientId", clientId)
+                .map(row -> new OrderSummaryDTO(
+                        row.get("client_id", String.class), row.get("name", String.class), row.get("email", String.class),
+                        row.get("order_id", String.class), row.get("order_date", LocalDate.class),
+                        row.get("total", Double.class), row.get("details", String.class)))
+                .all()
+                .switchIfEmpty(Flux.defer(() -> {
+                    log.warn("Cliente con ID {} no encontrado.", clientId);
+                    return Flux.error(new ClientNotFoundException(String.format("Cliente con ID %s no encontrado.", clientId)));
+                }))
+                // A client without orders comes back as a single row with no order columns.
+                .filter(summary -> summary.getOrderId() != null);
+    }
+}
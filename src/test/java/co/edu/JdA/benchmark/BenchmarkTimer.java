@@ -0,0 +1,54 @@
+package co.edu.JdA.benchmark;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Minimal timing helper shared by the benchmark suite ({@code ./mvnw -Pbenchmark test}).
+ * <p>
+ *     The operation first runs {@code warmUp} times, so the JIT compiles it, and then {@code iterations}
+ *     times while measuring. Results are consumed so the JIT cannot drop the work, and every measurement
+ *     is printed on one line so successive runs are easy to compare.
+ * </p>
+ * */
+final class BenchmarkTimer {
+
+    private static volatile int sink;
+
+    private BenchmarkTimer() {
+    }
+
+    /**
+     * Measures the average time of an operation.
+     * @param name The name printed with the result.
+     * @param warmUp The number of runs before measuring.
+     * @param iterations The number of measured runs.
+     * @param operation The operation; its result is consumed.
+     * @return The average nanoseconds per operation.
+     * */
+    static double nanosPerOperation(String name, int warmUp, int iterations, Supplier<?> operation) {
+        for (int i = 0; i < warmUp; i++) {
+            consume(operation.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            consume(operation.get());
+        }
+        double nanos = (double) (System.nanoTime() - start) / iterations;
+        report(name, String.format(Locale.ROOT, "%.0f ns/op", nanos));
+        return nanos;
+    }
+
+    /**
+     * Prints a result of the benchmark suite.
+     * @param name The name of the measurement.
+     * @param value The measured value, with its unit.
+     * */
+    static void report(String name, String value) {
+        System.out.printf(Locale.ROOT, "[benchmark] %-50s %s%n", name, value);
+    }
+
+    private static void consume(Object value) {
+        sink += value == null ? 0 : System.identityHashCode(value);
+    }
+}
@@ -0,0 +1,152 @@
+package co.edu.JdA.benchmark;
+
+import co.edu.JdA.entity.ClientEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares two ways of letting several threads update the same client.
+ * <ul>
+ *     <li>Optimistic: read, change and commit; Hibernate checks the {@code @Version} on update and the
+ *     loser of a race retries from the read. This is what {@code PUT /api/clientes/{id}} does.</li>
+ *     <li>Pessimistic: read with {@code PESSIMISTIC_WRITE} ({@code SELECT ... FOR UPDATE}), so the writers
+ *     queue on the row lock and never retry.</li>
+ * </ul>
+ * <p>
+ *     Runs against an embedded H2 database with the schema generated from the entities. Each run checks that
+ *     no update was lost: the final version equals the number of updates.
+ * </p>
+ * */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:concurrent-updates;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// Each update needs its own transaction, not the one the test would run in.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConcurrentClientUpdateBenchmark {
+
+    private static final int[] THREADS = {1, 4, 16};
+    private static final int UPDATES_PER_THREAD = 200;
+    private static final int WARM_UP_UPDATES = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ConcurrentClientUpdateBenchmark(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void optimisticWithRetry() throws Exception {
+        run("optimista", false);
+    }
+
+    @Test
+    void pessimisticWrite() throws Exception {
+        run("pesimista", true);
+    }
+
+    private void run(String strategy, boolean pessimistic) throws Exception {
+        String warmUpClient = createClient(strategy + "-warm-up");
+        updateConcurrently(warmUpClient, 4, WARM_UP_UPDATES, pessimistic);
+
+        for (int threads : THREADS) {
+            String clientId = createClient(strategy + "-" + threads);
+            long start = System.nanoTime();
+            long retries = updateConcurrently(clientId, threads, UPDATES_PER_THREAD, pessimistic);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+            int updates = threads * UPDATES_PER_THREAD;
+            assertThat(versionOf(clientId)).isEqualTo((long) updates);
+            BenchmarkTimer.report(String.format(Locale.ROOT, "update %s, %d hilos", strategy, threads),
+                    String.format(Locale.ROOT, "%.0f updates/s, %.0f us/update, %d reintentos",
+                            updates / (millis / 1000), millis * 1000 / updates, retries));
+        }
+    }
+
+    private long updateConcurrently(String clientId, int threads, int updatesPerThread, boolean pessimistic) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long retries = 0;
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        String name = "Cliente " + thread + "-" + i;
+                        retries += pessimistic ? updatePessimistic(clientId, name) : updateOptimistic(clientId, name);
+                    }
+                    return retries;
+                }));
+            }
+            start.countDown();
+            long retries = 0;
+            for (Future<Long> result : results) {
+                retries += result.get();
+            }
+            return retries;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The number of retries the update needed.
+     * */
+    private int updateOptimistic(String clientId, String name) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        entityManager.find(ClientEntity.class, clientId).setName(name));
+                return attempt;
+            } catch (ConcurrencyFailureException err) {
+                // Another thread committed first: read the new version and try again.
+            }
+        }
+    }
+
+    private int updatePessimistic(String clientId, String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(ClientEntity.class, clientId, LockModeType.PESSIMISTIC_WRITE).setName(name));
+        return 0;
+    }
+
+    private String createClient(String id) {
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(
+                new ClientEntity(id, "Cliente " + id, id + "@example.com", LocalDate.now(), null, null, null)));
+        return id;
+    }
+
+    private Long versionOf(String clientId) {
+        return transactionTemplate.execute(status -> entityManager.find(ClientEntity.class, clientId).getVersion());
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.JdA.benchmark;
+
+import co.edu.JdA.DTO.ClientCreationDTO;
+import co.edu.JdA.Main;
+import co.edu.JdA.controller.ClientController;
+import co.edu.JdA.service.ClientService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures what the layer spans of {@code LayerTracingAspect} add to a request.
+ * <p>
+ *     Starts the application twice on the in-memory backend, with {@code app.tracing.layers.enabled} true and
+ *     false, and times {@code ClientController.searchClientById} through the Spring proxies, which crosses the
+ *     controller, service and repository layers. Every trace is sampled, so the
+ *     figure is the cost of three spans per call. Application logs are raised to WARN so they do not dominate.
+ * </p>
+ * */
+class LayerTracingBenchmark {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    void layerSpanOverhead() {
+        double untraced = measure(false);
+        double traced = measure(true);
+        BenchmarkTimer.report("sobrecosto de las trazas por capa",
+                String.format(Locale.ROOT, "%.0f ns/op (%+.1f%%)", traced - untraced, 100 * (traced - untraced) / untraced));
+    }
+
+    private static double measure(boolean layersEnabled) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("memory")
+                .properties(
+                        "app.tracing.layers.enabled=" + layersEnabled,
+                        "management.tracing.sampling.probability=1.0",
+                        "app.warmup.enabled=false",
+                        "app.memory.snapshot-file=target/layer-tracing-benchmark-snapshot.jsonl",
+                        "logging.level.co.edu.JdA=WARN")
+                .run()) {
+            ClientController controller = context.getBean(ClientController.class);
+            String id = "bench-" + UUID.randomUUID();
+            context.getBean(ClientService.class).registerClient(new ClientCreationDTO(id, "Cliente benchmark", id + "@example.com"));
+            assertThat(controller.searchClientById(id).getStatusCode().is2xxSuccessful()).isTrue();
+
+            return BenchmarkTimer.nanosPerOperation("GET cliente, trazas por capa " + (layersEnabled ? "activas" : "desactivadas"),
+                    WARM_UP, ITERATIONS, () -> controller.searchClientById(id));
+        }
+    }
+}
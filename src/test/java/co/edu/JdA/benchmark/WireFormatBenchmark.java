@@ -0,0 +1,102 @@
+package co.edu.JdA.benchmark;
+
+import co.edu.JdA.DTO.ClientResponseDTO;
+import co.edu.JdA.DTO.OrderBatchCreateDTO;
+import co.edu.JdA.DTO.OrderBatchResponseDTO;
+import co.edu.JdA.DTO.OrderCreateDTO;
+import co.edu.JdA.DTO.OrderResponseDTO;
+import co.edu.JdA.config.WireFormatConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares JSON and CBOR on the DTOs exchanged between services: payload size and encode/decode time.
+ * <p>
+ *     Both mappers are built like in the application: JSON from a {@link Jackson2ObjectMapperBuilder} with
+ *     Spring Boot's date setting and CBOR from the same builder through {@link WireFormatConfig}.
+ * </p>
+ * */
+class WireFormatBenchmark {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int BATCH_SIZE = 100;
+
+    private final ObjectMapper json = builder().build();
+    private final ObjectMapper cbor = new WireFormatConfig().cborHttpMessageConverter(builder()).getObjectMapper();
+
+    private final OrderCreateDTO order = new OrderCreateDTO("cliente-42", 129.90,
+            List.of("Cambio de aceite", "Filtro de aire", "Revisión de frenos"));
+    private final OrderBatchCreateDTO batch = new OrderBatchCreateDTO(IntStream.range(0, BATCH_SIZE)
+            .mapToObj(i -> new OrderCreateDTO("cliente-" + i, 10.0 + i, List.of("Detalle " + i, "Otro detalle")))
+            .toList());
+    private final OrderBatchResponseDTO batchResponse = new OrderBatchResponseDTO(IntStream.range(0, BATCH_SIZE)
+            .mapToObj(i -> new OrderResponseDTO("9f1c7d3e-0000-4000-8000-" + String.format("%012d", i), "cliente-" + i,
+                    LocalDate.of(2026, 1, 1).plusDays(i), 10.0 + i, List.of("Detalle " + i, "Otro detalle")))
+            .toList(), List.of());
+    private final ClientResponseDTO client = new ClientResponseDTO("cliente-42", "María Pérez",
+            "maria.perez@example.com", LocalDate.of(2025, 6, 1), 0.0, "");
+
+    @Test
+    void payloadSize() {
+        for (Object payload : List.of(order, batch, batchResponse, client)) {
+            int jsonBytes = encode(json, payload).length;
+            int cborBytes = encode(cbor, payload).length;
+            BenchmarkTimer.report(payload.getClass().getSimpleName() + " size",
+                    String.format("JSON %d B, CBOR %d B (%.0f%%)", jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes));
+            assertThat(cborBytes).isLessThan(jsonBytes);
+        }
+    }
+
+    @Test
+    void encodeAndDecode() {
+        measure(order, OrderCreateDTO.class, ITERATIONS);
+        measure(client, ClientResponseDTO.class, ITERATIONS);
+        measure(batch, OrderBatchCreateDTO.class, ITERATIONS / BATCH_SIZE);
+        measure(batchResponse, OrderBatchResponseDTO.class, ITERATIONS / BATCH_SIZE);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private <T> void measure(T payload, Class<T> type, int iterations) {
+        String name = type.getSimpleName();
+        byte[] jsonBytes = encode(json, payload);
+        byte[] cborBytes = encode(cbor, payload);
+        assertThat(decode(json, jsonBytes, type)).isEqualTo(payload);
+        assertThat(decode(cbor, cborBytes, type)).isEqualTo(payload);
+
+        int warmUp = Math.max(1, WARM_UP * iterations / ITERATIONS);
+        BenchmarkTimer.nanosPerOperation(name + " encode JSON", warmUp, iterations, () -> encode(json, payload));
+        BenchmarkTimer.nanosPerOperation(name + " encode CBOR", warmUp, iterations, () -> encode(cbor, payload));
+        BenchmarkTimer.nanosPerOperation(name + " decode JSON", warmUp, iterations, () -> decode(json, jsonBytes, type));
+        BenchmarkTimer.nanosPerOperation(name + " decode CBOR", warmUp, iterations, () -> decode(cbor, cborBytes, type));
+    }
+
+    private static byte[] encode(ObjectMapper mapper, Object payload) {
+        try {
+            return mapper.writeValueAsBytes(payload);
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    private static <T> T decode(ObjectMapper mapper, byte[] bytes, Class<T> type) {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package co.edu.JdA.datasource;
+
+import co.edu.JdA.exception.SqlBudgetExceededException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks how {@link StatementCountingDataSource} counts statements and enforces the budget of a request.
+ * <p>
+ *     Runs against an in-memory H2 database, opened directly with JDBC.
+ * </p>
+ * */
+class StatementCountingDataSourceTest {
+
+    private JdbcDataSource database;
+    private StatementCountingDataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        // The in-memory database lives while a connection is open.
+        keepAlive = database.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE items (id INT PRIMARY KEY)");
+        }
+        dataSource = new StatementCountingDataSource(database, 1_000, 0.0);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SqlRequestContext.end();
+        keepAlive.close();
+    }
+
+    @Test
+    void countsStatementsOfTheRequest() throws SQLException {
+        SqlRequestContext context = SqlRequestContext.begin("GET /test");
+
+        insert(1);
+        insert(2);
+
+        assertThat(context.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    void strictBudgetRejectsTheStatementBeforeItRuns() throws SQLException {
+        SqlRequestContext.begin("POST /test").limitTo(1, true);
+
+        insert(1);
+
+        assertThatThrownBy(() -> insert(2)).isInstanceOf(SqlBudgetExceededException.class);
+        assertThat(rows()).isEqualTo(1);
+        assertThat(SqlRequestContext.current().getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void lenientBudgetRunsTheStatementAndReportsIt() throws SQLException {
+        SqlRequestContext context = SqlRequestContext.begin("POST /test");
+        context.limitTo(1, false);
+
+        insert(1);
+        insert(2);
+
+        assertThat(rows()).isEqualTo(2);
+        assertThat(context.isOverBudget()).isTrue();
+    }
+
+    @Test
+    void failingStatementKeepsItsOwnException() throws SQLException {
+        SqlRequestContext context = SqlRequestContext.begin("POST /test");
+        context.limitTo(2, true);
+        insert(1);
+
+        // The duplicate key uses the last statement of the budget; its SQLException must not be replaced.
+        assertThatThrownBy(() -> insert(1)).isInstanceOf(SQLException.class);
+        assertThat(context.getStatements()).isEqualTo(2);
+    }
+
+    private void insert(int id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO items (id) VALUES (?)")) {
+            statement.setInt(1, id);
+            statement.executeUpdate();
+        }
+    }
+
+    private int rows() throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM items")) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package co.edu.JdA.repository;
+
+import co.edu.JdA.DTO.OrderSummaryDTO;
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.entity.OrderEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that listing the orders of a client costs a single SQL statement whatever the number of orders.
+ * <p>
+ *     Runs against an embedded H2 database with the schema generated from the entities
+ *     (the Flyway migrations are MySQL-specific). Statements are counted with the Hibernate statistics.
+ * </p>
+ * */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderRepositoryTest {
+
+    private static final String CLIENT_ID = "c-1";
+    private static final LocalDate SINCE = LocalDate.now().minusMonths(12).withDayOfMonth(1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 50})
+    void findOrderSummariesByClientIdUsesOneStatement(int orders) {
+        ClientEntity client = persistClient(CLIENT_ID, null);
+        for (int i = 0; i < orders; i++) {
+            entityManager.persist(new OrderEntity("o-" + i, LocalDate.now().minusDays(i), 10.0 + i, "a, b", client));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<OrderSummaryDTO> rows = orderRepository.findOrderSummariesByClientId(CLIENT_ID, SINCE);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        // A client without orders comes back as one row without order columns.
+        assertThat(rows).hasSize(Math.max(orders, 1));
+        assertThat(rows).allSatisfy(row -> assertThat(row.getClientName()).isEqualTo("Cliente " + CLIENT_ID));
+    }
+
+    @Test
+    void findOrderSummariesByClientIdSkipsOrdersBeforeTheWindow() {
+        ClientEntity client = persistClient(CLIENT_ID, null);
+        entityManager.persist(new OrderEntity("o-old", SINCE.minusDays(1), 10.0, "a", client));
+        entityManager.persist(new OrderEntity("o-new", SINCE, 20.0, "b", client));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<OrderSummaryDTO> rows = orderRepository.findOrderSummariesByClientId(CLIENT_ID, SINCE);
+
+        assertThat(rows).extracting(OrderSummaryDTO::getOrderId).containsExactly("o-new");
+    }
+
+    @Test
+    void findOrderSummariesByClientIdIgnoresDeletedClients() {
+        ClientEntity client = persistClient(CLIENT_ID, LocalDateTime.now());
+        entityManager.persist(new OrderEntity("o-1", LocalDate.now(), 10.0, "a", client));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(orderRepository.findOrderSummariesByClientId(CLIENT_ID, SINCE)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private ClientEntity persistClient(String id, LocalDateTime deletedAt) {
+        ClientEntity client = new ClientEntity(id, "Cliente " + id, id + "@example.com", LocalDate.now(), deletedAt, null, null);
+        return entityManager.persist(client);
+    }
+}
@@ -0,0 +1,77 @@
+package co.edu.JdA.service;
+
+import co.edu.JdA.DTO.ClientResponseDTO;
+import co.edu.JdA.entity.ClientEntity;
+import co.edu.JdA.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the ranking of {@link ClientSearchIndex}: an exact word scores above a prefix, and a prefix above
+ * a word within the allowed typos.
+ * <p>
+ *     The index is rebuilt from a mocked {@link ClientRepository}; no database or Spring context is needed.
+ * </p>
+ * */
+class ClientSearchIndexTest {
+
+    private ClientRepository clientRepository;
+    private ClientSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clientRepository = mock(ClientRepository.class);
+        when(clientRepository.findByDeletedAtIsNull()).thenReturn(List.of(
+                client("exacto", "Ana Torres"),
+                client("prefijo", "Ana Torresano"),
+                client("difuso", "Ana Torrez"),
+                client("otro", "Bruno Díaz")));
+        index = new ClientSearchIndex(clientRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void exactWordRanksAbovePrefixAndPrefixAboveTypo() {
+        assertThat(ids(index.search("torres", 10))).containsExactly("exacto", "prefijo", "difuso");
+    }
+
+    @Test
+    void prefixMatchesEveryLongerWord() {
+        assertThat(ids(index.search("torr", 10))).containsExactlyInAnyOrder("exacto", "prefijo", "difuso");
+    }
+
+    @Test
+    void typoAndAccentsAreTolerated() {
+        assertThat(ids(index.search("DIAS", 10))).containsExactly("otro");
+    }
+
+    @Test
+    void limitKeepsTheBestMatches() {
+        assertThat(ids(index.search("torres", 2))).containsExactly("exacto", "prefijo");
+    }
+
+    @Test
+    void updatesReplaceAndRemoveEntries() {
+        index.upsert(client("difuso", "Ana Torres"));
+        index.remove("prefijo");
+
+        List<String> results = ids(index.search("torres", 10));
+
+        assertThat(results).containsExactlyInAnyOrder("exacto", "difuso");
+    }
+
+    private static ClientEntity client(String id, String name) {
+        return new ClientEntity(id, name, id + "@example.com", LocalDate.now(), null, null, null);
+    }
+
+    private static List<String> ids(List<ClientResponseDTO> results) {
+        return results.stream().map(ClientResponseDTO::getId).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package co.edu.JdA.tracing;
+
+import co.edu.JdA.DTO.ClientCreationDTO;
+import co.edu.JdA.service.ClientService;
+import co.edu.JdA.tracing.InMemorySpanCollector.CollectedSpan;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the layer spans of a request nest as controller, service and repository under the request span.
+ * <p>
+ *     Runs the whole application on the in-memory backend, with tracing enabled (Spring Boot disables it in
+ *     tests otherwise), samples every request and reads the finished spans from the {@link InMemorySpanCollector},
+ *     which is only registered when enabled.
+ * </p>
+ * */
+@SpringBootTest(properties = {
+        "app.warmup.enabled=false",
+        "app.memory.snapshot-file=target/layer-tracing-test-snapshot.jsonl",
+        "app.tracing.collector.enabled=true",
+        "management.tracing.sampling.probability=1.0"
+})
+@ActiveProfiles("memory")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class LayerTracingAspectTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanCollector collector;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Test
+    void layerSpansNestUnderTheRequestSpan() throws Exception {
+        String id = "traza-" + UUID.randomUUID();
+        clientService.registerClient(new ClientCreationDTO(id, "Cliente traza", id + "@example.com"));
+        collector.clear();
+
+        mockMvc.perform(get("/api/clientes/{id}", id)).andExpect(status().isOk());
+
+        CollectedSpan controller = single(collector.spans(), "ClientController.searchClientById");
+        List<CollectedSpan> trace = collector.spansOf(controller.traceId());
+        CollectedSpan request = trace.stream()
+                .filter(span -> span.spanId().equals(controller.parentId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("El span del controlador no tiene padre en la traza: " + trace));
+        CollectedSpan service = single(trace, "ClientService.searchClient");
+        List<CollectedSpan> repositories = trace.stream()
+                .filter(span -> "repository".equals(span.tags().get("layer")))
+                .toList();
+
+        assertThat(request.parentId()).isNull();
+        assertThat(request.tags()).doesNotContainKey("layer");
+        assertThat(controller.tags()).containsEntry("layer", "controller");
+        assertThat(service.tags()).containsEntry("layer", "service");
+        assertThat(service.parentId()).isEqualTo(controller.spanId());
+        assertThat(repositories).isNotEmpty()
+                .allSatisfy(span -> assertThat(span.parentId()).isEqualTo(service.spanId()));
+    }
+
+    private static CollectedSpan single(List<CollectedSpan> spans, String name) {
+        List<CollectedSpan> matching = spans.stream().filter(span -> name.equals(span.name())).toList();
+        assertThat(matching).as("spans %s en %s", name, spans).hasSize(1);
+        return matching.get(0);
+    }
+}